@@ -0,0 +1,23 @@
+package com.interplug.configclient;
+
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+/**
+ * config-server에 요청할 application / profile
+ * 지정하지 않으면 spring.application.name / 활성 profile(없으면 default)
+ */
+public record ConfigTarget(String application, String profile) {
+
+    public static ConfigTarget resolve(Environment environment, String application, String profile) {
+        String resolvedApplication = StringUtils.hasText(application)
+                ? application
+                : environment.getProperty("spring.application.name", "application");
+        String resolvedProfile = StringUtils.hasText(profile)
+                ? profile
+                : environment.getActiveProfiles().length > 0
+                ? String.join(",", environment.getActiveProfiles())
+                : "default";
+        return new ConfigTarget(resolvedApplication, resolvedProfile);
+    }
+}
@@ -0,0 +1,13 @@
+package com.interplug.configclient.cache;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.Map;
+
+/**
+ * 로컬 캐시 파일 내용 (config-server 응답을 우선순위대로 병합한 속성)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record CachedConfig(String application, String profile, String version, long savedAt,
+                           Map<String, Object> properties) {
+}
@@ -0,0 +1,33 @@
+package com.interplug.configclient.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interplug.configclient.ConfigTarget;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+/**
+ * config-server 설정 로컬 캐시 (config.cache.enabled=true)
+ * 캐시 로드는 ConfigCacheEnvironmentPostProcessor, 기동 후 동기화는 ConfigCacheReconciler
+ */
+@AutoConfiguration
+@ConditionalOnProperty(prefix = "config.cache", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ConfigCacheProperties.class)
+public class ConfigCacheAutoConfiguration {
+
+    @Bean(destroyMethod = "stop")
+    public ConfigCacheReconciler configCacheReconciler(ConfigCacheProperties properties,
+                                                       ConfigurableEnvironment environment,
+                                                       ApplicationEventPublisher eventPublisher,
+                                                       ObjectProvider<ObjectMapper> objectMapper) {
+        ConfigTarget target = ConfigTarget.resolve(environment, properties.getApplication(), properties.getProfile());
+        ObjectMapper mapper = objectMapper.getIfAvailable(ObjectMapper::new);
+        return new ConfigCacheReconciler(properties,
+                new ConfigCacheFile(properties.getPath(), target.application(), target.profile(), mapper),
+                environment, eventPublisher, mapper, target.application(), target.profile());
+    }
+}
@@ -0,0 +1,85 @@
+package com.interplug.configclient.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interplug.configclient.ConfigTarget;
+import org.apache.commons.logging.Log;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.config.ConfigDataEnvironmentPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.boot.logging.DeferredLogFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 기동 시 로컬 캐시 파일의 설정을 PropertySource(configCache)로 추가
+ * config-server 응답을 기다리지 않으므로 서버가 느리거나 내려가 있어도 마지막으로 받은 설정으로 바로 기동
+ */
+public class ConfigCacheEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
+
+    public static final String PROPERTY_SOURCE_NAME = "configCache";
+
+    private final Log log;
+
+    public ConfigCacheEnvironmentPostProcessor(DeferredLogFactory logFactory) {
+        this.log = logFactory.getLog(ConfigCacheEnvironmentPostProcessor.class);
+    }
+
+    @Override
+    public int getOrder() {
+        // application.yml / spring.application.name 이 로드된 이후
+        return ConfigDataEnvironmentPostProcessor.ORDER + 1;
+    }
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        ConfigCacheProperties properties = Binder.get(environment)
+                .bind("config.cache", ConfigCacheProperties.class)
+                .orElseGet(ConfigCacheProperties::new);
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        ConfigTarget target = ConfigTarget.resolve(environment, properties.getApplication(), properties.getProfile());
+        ConfigCacheFile cacheFile = new ConfigCacheFile(properties.getPath(), target.application(), target.profile(),
+                new ObjectMapper());
+        long started = System.nanoTime();
+        try {
+            CachedConfig cached = cacheFile.read();
+            if (cached == null) {
+                log.info("No config cache at " + cacheFile.getPath() + ", starting without config-server properties");
+                install(environment, new MapPropertySource(PROPERTY_SOURCE_NAME, new ConcurrentHashMap<>()));
+                return;
+            }
+            install(environment,
+                    new MapPropertySource(PROPERTY_SOURCE_NAME, new ConcurrentHashMap<>(cached.properties())));
+            log.info("Loaded " + cached.properties().size() + " properties (version " + cached.version()
+                    + ", age " + Duration.between(Instant.ofEpochMilli(cached.savedAt()), Instant.now())
+                    + ") from config cache " + cacheFile.getPath() + " in "
+                    + Duration.ofNanos(System.nanoTime() - started).toMillis() + " ms");
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable config cache " + cacheFile.getPath() + ": " + e.getMessage());
+            install(environment, new MapPropertySource(PROPERTY_SOURCE_NAME, new ConcurrentHashMap<>()));
+        }
+    }
+
+    /**
+     * config-server import와 같은 위치: 환경 변수 / 커맨드라인 다음, application.yml 보다 우선
+     */
+    private static void install(ConfigurableEnvironment environment, MapPropertySource source) {
+        MutablePropertySources sources = environment.getPropertySources();
+        if (sources.contains(StandardEnvironment.SYSTEM_ENVIRONMENT_PROPERTY_SOURCE_NAME)) {
+            sources.addAfter(StandardEnvironment.SYSTEM_ENVIRONMENT_PROPERTY_SOURCE_NAME, source);
+        } else {
+            sources.addFirst(source);
+        }
+    }
+}
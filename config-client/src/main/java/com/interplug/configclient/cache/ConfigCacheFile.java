@@ -0,0 +1,40 @@
+package com.interplug.configclient.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 캐시 파일 읽기 / 쓰기 (임시 파일에 쓴 뒤 원자적으로 교체하여 기동 중 읽기와 충돌하지 않도록)
+ */
+public class ConfigCacheFile {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    public ConfigCacheFile(String directory, String application, String profile, ObjectMapper objectMapper) {
+        this.path = Path.of(directory, application + "-" + profile.replace(',', '_') + ".json");
+        this.objectMapper = objectMapper;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public CachedConfig read() throws IOException {
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+        return objectMapper.readValue(Files.readAllBytes(path), CachedConfig.class);
+    }
+
+    public void write(CachedConfig config) throws IOException {
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        Path tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.write(tempPath, objectMapper.writeValueAsBytes(config));
+        Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
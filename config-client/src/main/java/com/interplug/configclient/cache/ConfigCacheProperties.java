@@ -0,0 +1,43 @@
+package com.interplug.configclient.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * config-server 설정 로컬 캐시 (config.cache.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "config.cache")
+public class ConfigCacheProperties {
+
+    /** 마지막으로 받은 설정으로 즉시 기동하고, config-server와는 기동 후 비동기로 동기화 */
+    private boolean enabled = false;
+
+    /** 캐시 파일 디렉토리 ({application}-{profile}.json) */
+    private String path = "./config-cache";
+
+    /** config-server 주소 */
+    private String uri = "http://localhost:8888";
+
+    /** config-server Basic 인증 */
+    private String username;
+
+    private String password;
+
+    /** 조회할 application / profile / label (기본: spring.application.name / 활성 profile / 서버 기본 label) */
+    private String application;
+
+    private String profile;
+
+    private String label;
+
+    /** config-server 요청 타임아웃 */
+    private Duration timeout = Duration.ofSeconds(5);
+
+    /** 동기화 실패 시 재시도 간격 (2배씩 maxRetryDelay까지 증가) */
+    private Duration retryDelay = Duration.ofSeconds(5);
+
+    private Duration maxRetryDelay = Duration.ofMinutes(1);
+}
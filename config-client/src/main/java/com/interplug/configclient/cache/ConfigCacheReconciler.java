@@ -0,0 +1,164 @@
+package com.interplug.configclient.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.PropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 기동 후 config-server에서 설정을 받아 로컬 캐시와 비교
+ * - 달라진 키를 보고하고(값은 로그에 남기지 않음) Environment의 configCache 에 반영 → EnvironmentChangeEvent
+ * - 최신 설정으로 캐시 파일 갱신
+ * - 서버에 연결할 수 없으면 성공할 때까지 backoff 재시도 (그동안은 캐시 설정으로 동작)
+ */
+@Slf4j
+public class ConfigCacheReconciler {
+
+    private final ConfigCacheProperties properties;
+    private final ConfigCacheFile cacheFile;
+    private final ConfigurableEnvironment environment;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final String application;
+    private final String profile;
+    private final HttpClient httpClient;
+    private volatile boolean running = true;
+    private Thread worker;
+
+    public ConfigCacheReconciler(ConfigCacheProperties properties, ConfigCacheFile cacheFile,
+                                 ConfigurableEnvironment environment, ApplicationEventPublisher eventPublisher,
+                                 ObjectMapper objectMapper, String application, String profile) {
+        this.properties = properties;
+        this.cacheFile = cacheFile;
+        this.environment = environment;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.application = application;
+        this.profile = profile;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(properties.getTimeout()).build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        worker = Thread.ofVirtual().name("config-cache-reconciler").start(this::run);
+    }
+
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    private void run() {
+        long delay = properties.getRetryDelay().toMillis();
+        while (running) {
+            try {
+                reconcile(fetch());
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException | RuntimeException e) {
+                log.warn("Config reconciliation with {} failed, running on cached config (retry in {} ms): {}",
+                        properties.getUri(), delay, e.toString());
+            }
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            delay = Math.min(delay * 2, properties.getMaxRetryDelay().toMillis());
+        }
+    }
+
+    private CachedConfig fetch() throws IOException, InterruptedException {
+        String path = "/" + encode(application) + "/" + encode(profile)
+                + (properties.getLabel() != null ? "/" + encode(properties.getLabel()) : "");
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(properties.getUri() + path))
+                .timeout(properties.getTimeout())
+                .header("Accept", "application/json")
+                .GET();
+        if (properties.getUsername() != null) {
+            String credentials = properties.getUsername() + ":" + properties.getPassword();
+            request.header("Authorization",
+                    "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8)));
+        }
+        HttpResponse<byte[]> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IOException("HTTP " + response.statusCode());
+        }
+
+        JsonNode body = objectMapper.readTree(response.body());
+        // 앞쪽 PropertySource가 우선이므로 뒤에서부터 덮어씀
+        Map<String, Object> merged = new HashMap<>();
+        JsonNode sources = body.path("propertySources");
+        for (int i = sources.size() - 1; i >= 0; i--) {
+            Map<String, Object> source = objectMapper.convertValue(sources.get(i).path("source"),
+                    objectMapper.getTypeFactory().constructMapType(Map.class, String.class, Object.class));
+            source.forEach((key, value) -> {
+                if (value != null) {
+                    merged.put(key, value);
+                }
+            });
+        }
+        String version = body.path("version").isTextual() ? body.path("version").asText() : null;
+        return new CachedConfig(application, profile, version, System.currentTimeMillis(), merged);
+    }
+
+    private void reconcile(CachedConfig fresh) throws IOException {
+        PropertySource<?> source = environment.getPropertySources()
+                .get(ConfigCacheEnvironmentPostProcessor.PROPERTY_SOURCE_NAME);
+        if (source != null && source.getSource() instanceof Map<?, ?> map) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> current = (Map<String, Object>) map;
+            Set<String> changed = new TreeSet<>();
+            fresh.properties().forEach((key, value) -> {
+                if (!Objects.equals(current.get(key), value)) {
+                    changed.add(key);
+                }
+            });
+            for (String key : current.keySet()) {
+                if (!fresh.properties().containsKey(key)) {
+                    changed.add(key);
+                }
+            }
+
+            if (changed.isEmpty()) {
+                log.info("Config cache is up to date with config-server (version {})", fresh.version());
+            } else {
+                log.warn("Config cache diverged from config-server (version {}), applying {} keys: {}",
+                        fresh.version(), changed.size(), changed);
+                current.putAll(fresh.properties());
+                current.keySet().retainAll(fresh.properties().keySet());
+                eventPublisher.publishEvent(new EnvironmentChangeEvent(environment, changed));
+            }
+        }
+        cacheFile.write(fresh);
+        log.info("Config cache {} updated ({} properties)", cacheFile.getPath(), fresh.properties().size());
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
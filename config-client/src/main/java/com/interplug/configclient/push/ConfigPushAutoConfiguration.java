@@ -0,0 +1,37 @@
+package com.interplug.configclient.push;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interplug.configclient.ConfigTarget;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+/**
+ * config-server 설정 변경 푸시 수신 (config.push.client.enabled=true)
+ * Spring Cloud Bus / 메시지 브로커 없이 config-server와 직접 연결
+ */
+@AutoConfiguration
+@ConditionalOnProperty(prefix = "config.push.client", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ConfigPushClientProperties.class)
+public class ConfigPushAutoConfiguration {
+
+    @Bean
+    public ConfigPushEnvironmentUpdater configPushEnvironmentUpdater(ConfigurableEnvironment environment,
+                                                                     ApplicationEventPublisher eventPublisher) {
+        return new ConfigPushEnvironmentUpdater(environment, eventPublisher);
+    }
+
+    @Bean(destroyMethod = "stop")
+    public ConfigPushClient configPushClient(ConfigPushClientProperties properties,
+                                             ConfigPushEnvironmentUpdater configPushEnvironmentUpdater,
+                                             ObjectProvider<ObjectMapper> objectMapper,
+                                             ConfigurableEnvironment environment) {
+        ConfigTarget target = ConfigTarget.resolve(environment, properties.getApplication(), properties.getProfile());
+        return new ConfigPushClient(properties, configPushEnvironmentUpdater,
+                objectMapper.getIfAvailable(ObjectMapper::new), target.application(), target.profile());
+    }
+}
@@ -0,0 +1,189 @@
+package com.interplug.configclient.push;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * config-server 설정 변경 푸시(GET /push/{application}/{profile}, SSE) 구독
+ * - 재접속 시 Last-Event-ID(마지막으로 반영한 버전)를 보내 변경이 없으면 snapshot 생략
+ * - idleTimeout 동안 keep-alive 도 없으면 연결을 끊고 재접속 (실패가 이어지면 지수 backoff)
+ */
+@Slf4j
+public class ConfigPushClient {
+
+    private final ConfigPushClientProperties properties;
+    private final ConfigPushEnvironmentUpdater updater;
+    private final ObjectMapper objectMapper;
+    private final String application;
+    private final String profile;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("config-push-watchdog").daemon().factory());
+    private volatile boolean running;
+    private volatile long lastEventAt;
+    private Thread worker;
+
+    public ConfigPushClient(ConfigPushClientProperties properties, ConfigPushEnvironmentUpdater updater,
+                            ObjectMapper objectMapper, String application, String profile) {
+        this.properties = properties;
+        this.updater = updater;
+        this.objectMapper = objectMapper;
+        this.application = application;
+        this.profile = profile;
+    }
+
+    /**
+     * 기동 완료 후 구독 시작 (초기화 중인 빈에 변경 이벤트가 전달되지 않도록)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        worker = Thread.ofVirtual().name("config-push").start(this::run);
+    }
+
+    public void stop() {
+        running = false;
+        watchdog.shutdownNow();
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    private void run() {
+        long delay = properties.getReconnectDelay().toMillis();
+        while (running) {
+            try {
+                if (stream()) {
+                    delay = properties.getReconnectDelay().toMillis();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException | RuntimeException e) {
+                log.warn("Config push stream {}/{} disconnected: {}", application, profile, e.toString());
+            }
+            if (!running) {
+                return;
+            }
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            delay = Math.min(delay * 2, properties.getMaxReconnectDelay().toMillis());
+        }
+    }
+
+    /**
+     * 한 번의 연결 동안 이벤트를 처리
+     *
+     * @return 연결이 정상적으로 맺어졌는지 여부 (backoff 초기화 기준)
+     */
+    private boolean stream() throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(properties.getUri() + "/push/"
+                        + encode(application) + "/" + encode(profile)))
+                .header("Accept", "text/event-stream")
+                .GET();
+        if (properties.getUsername() != null) {
+            String credentials = properties.getUsername() + ":" + properties.getPassword();
+            request.header("Authorization",
+                    "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8)));
+        }
+        if (updater.getVersion() != null) {
+            request.header("Last-Event-ID", updater.getVersion());
+        }
+
+        HttpResponse<InputStream> response = httpClient.send(request.build(),
+                HttpResponse.BodyHandlers.ofInputStream());
+        if (response.statusCode() != 200) {
+            response.body().close();
+            throw new IOException("HTTP " + response.statusCode());
+        }
+        log.info("Config push stream connected for {}/{}", application, profile);
+
+        lastEventAt = System.nanoTime();
+        long idleNanos = properties.getIdleTimeout().toNanos();
+        ScheduledFuture<?> idleCheck = watchdog.scheduleAtFixedRate(() -> {
+            if (System.nanoTime() - lastEventAt > idleNanos) {
+                log.warn("Config push stream idle for {}, reconnecting", properties.getIdleTimeout());
+                closeQuietly(response);
+            }
+        }, 1, 1, TimeUnit.SECONDS);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+            String eventName = null;
+            StringBuilder data = new StringBuilder();
+            String line;
+            while (running && (line = reader.readLine()) != null) {
+                lastEventAt = System.nanoTime();
+                if (line.isEmpty()) {
+                    if (data.length() > 0 && !dispatch(eventName, data.toString())) {
+                        return true;
+                    }
+                    eventName = null;
+                    data.setLength(0);
+                } else if (line.startsWith("event:")) {
+                    eventName = line.substring(6).trim();
+                } else if (line.startsWith("data:")) {
+                    if (data.length() > 0) {
+                        data.append('\n');
+                    }
+                    data.append(line.substring(5).stripLeading());
+                }
+                // id: 는 이벤트 데이터의 version 과 같으므로 별도 처리하지 않음, ':' 로 시작하는 keep-alive 는 무시
+            }
+            return true;
+        } finally {
+            idleCheck.cancel(false);
+        }
+    }
+
+    /**
+     * @return 스트림을 계속 읽을지 여부 (diff 기준 버전이 어긋나면 재접속하여 snapshot 수신)
+     */
+    private boolean dispatch(String eventName, String data) throws IOException {
+        ConfigPushEvent event = objectMapper.readValue(data, ConfigPushEvent.class);
+        if ("snapshot".equals(eventName)) {
+            updater.applySnapshot(event);
+            return true;
+        }
+        if ("diff".equals(eventName)) {
+            return updater.applyDiff(event);
+        }
+        return true;
+    }
+
+    private static void closeQuietly(HttpResponse<InputStream> response) {
+        try {
+            response.body().close();
+        } catch (IOException ignored) {
+            // 재접속으로 처리
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,39 @@
+package com.interplug.configclient.push;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 설정 변경 푸시 수신 설정 (config.push.client.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "config.push.client")
+public class ConfigPushClientProperties {
+
+    /** config-server 푸시 구독 여부 */
+    private boolean enabled = false;
+
+    /** config-server 주소 */
+    private String uri = "http://localhost:8888";
+
+    /** config-server Basic 인증 */
+    private String username;
+
+    private String password;
+
+    /** 구독할 application (기본: spring.application.name) */
+    private String application;
+
+    /** 구독할 profile (기본: 활성 profile, 없으면 default) */
+    private String profile;
+
+    /** 이 시간 동안 이벤트(keep-alive 포함)가 없으면 재접속 */
+    private Duration idleTimeout = Duration.ofSeconds(45);
+
+    /** 재접속 대기 시간 (실패가 이어지면 maxReconnectDelay까지 2배씩 증가) */
+    private Duration reconnectDelay = Duration.ofSeconds(1);
+
+    private Duration maxReconnectDelay = Duration.ofSeconds(30);
+}
@@ -0,0 +1,114 @@
+package com.interplug.configclient.push;
+
+import com.interplug.configclient.cache.ConfigCacheEnvironmentPostProcessor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 푸시로 받은 설정을 Spring Environment에 반영
+ * - 첫 snapshot 수신 시 config-server에서 가져온 PropertySource(configserver:*, configClient, 로컬 캐시)를
+ *   푸시 전용 PropertySource 하나로 교체 (삭제된 키가 이전 값으로 남지 않도록)
+ * - 실제로 값이 바뀐 키만 EnvironmentChangeEvent로 알림 → @ConfigurationProperties 재바인딩, 로그 레벨 반영
+ *   (@RefreshScope 빈 전체 재생성은 하지 않음)
+ */
+@Slf4j
+public class ConfigPushEnvironmentUpdater {
+
+    static final String PROPERTY_SOURCE_NAME = "configPush";
+
+    private final ConfigurableEnvironment environment;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<String, Object> properties = new ConcurrentHashMap<>();
+    private volatile String version;
+
+    public ConfigPushEnvironmentUpdater(ConfigurableEnvironment environment, ApplicationEventPublisher eventPublisher) {
+        this.environment = environment;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public synchronized void applySnapshot(ConfigPushEvent snapshot) {
+        installPropertySource();
+        Set<String> changed = new HashSet<>();
+        snapshot.changed().forEach((key, value) -> {
+            if (!Objects.equals(properties.put(key, value), value)) {
+                changed.add(key);
+            }
+        });
+        for (String key : new ArrayList<>(properties.keySet())) {
+            if (!snapshot.changed().containsKey(key)) {
+                properties.remove(key);
+                changed.add(key);
+            }
+        }
+        version = snapshot.version();
+        publish(changed);
+    }
+
+    /**
+     * @return 현재 버전이 diff의 기준 버전과 달라 반영하지 못한 경우 false (snapshot 재요청 필요)
+     */
+    public synchronized boolean applyDiff(ConfigPushEvent diff) {
+        if (!Objects.equals(version, diff.previousVersion())) {
+            log.warn("Config push diff {} -> {} does not match local version {}", diff.previousVersion(),
+                    diff.version(), version);
+            return false;
+        }
+        Set<String> changed = new HashSet<>(diff.changed().keySet());
+        properties.putAll(diff.changed());
+        diff.removed().forEach(properties::remove);
+        changed.addAll(diff.removed());
+        version = diff.version();
+        publish(changed);
+        return true;
+    }
+
+    private void publish(Set<String> changed) {
+        if (changed.isEmpty()) {
+            return;
+        }
+        log.info("Config push applied version {} (changed keys: {})", version, changed);
+        eventPublisher.publishEvent(new EnvironmentChangeEvent(environment, changed));
+    }
+
+    private void installPropertySource() {
+        MutablePropertySources sources = environment.getPropertySources();
+        if (sources.contains(PROPERTY_SOURCE_NAME)) {
+            return;
+        }
+        MapPropertySource pushSource = new MapPropertySource(PROPERTY_SOURCE_NAME, properties);
+        List<String> configServerSources = new ArrayList<>();
+        for (PropertySource<?> source : sources) {
+            if (source.getName().startsWith("configserver:") || source.getName().equals("configClient")
+                    || source.getName().equals(ConfigCacheEnvironmentPostProcessor.PROPERTY_SOURCE_NAME)) {
+                configServerSources.add(source.getName());
+            }
+        }
+        if (!configServerSources.isEmpty()) {
+            sources.addBefore(configServerSources.get(0), pushSource);
+            configServerSources.forEach(sources::remove);
+        } else if (sources.contains(StandardEnvironment.SYSTEM_ENVIRONMENT_PROPERTY_SOURCE_NAME)) {
+            // config-server import 없이 사용하는 경우: 환경 변수 / 커맨드라인 다음, application.yml 보다 우선
+            sources.addAfter(StandardEnvironment.SYSTEM_ENVIRONMENT_PROPERTY_SOURCE_NAME, pushSource);
+        } else {
+            sources.addFirst(pushSource);
+        }
+    }
+}
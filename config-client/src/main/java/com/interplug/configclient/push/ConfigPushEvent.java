@@ -0,0 +1,19 @@
+package com.interplug.configclient.push;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * config-server /push 스트림의 snapshot / diff 이벤트 데이터
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ConfigPushEvent(String application, String profile, String version, String previousVersion,
+                              Map<String, Object> changed, Set<String> removed) {
+
+    public ConfigPushEvent {
+        changed = changed != null ? changed : Map.of();
+        removed = removed != null ? removed : Set.of();
+    }
+}
@@ -0,0 +1,47 @@
+package com.interplug.configserver.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Basic 인증 1회당 비밀번호 검증 비용: BCrypt 단독 vs 캐시 적중
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PasswordEncoderBenchmark {
+
+    private static final String PASSWORD = "qwer1234";
+
+    private BCryptPasswordEncoder bcrypt;
+    private CachingPasswordEncoder caching;
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        bcrypt = new BCryptPasswordEncoder();
+        caching = new CachingPasswordEncoder(bcrypt, 1_000, Duration.ofMinutes(5), new SimpleMeterRegistry());
+        encoded = bcrypt.encode(PASSWORD);
+        caching.matches(PASSWORD, encoded);
+    }
+
+    @Benchmark
+    public boolean bcrypt() {
+        return bcrypt.matches(PASSWORD, encoded);
+    }
+
+    @Benchmark
+    public boolean cachedHit() {
+        return caching.matches(PASSWORD, encoded);
+    }
+}
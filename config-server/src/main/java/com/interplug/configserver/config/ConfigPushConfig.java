@@ -0,0 +1,36 @@
+package com.interplug.configserver.config;
+
+import com.interplug.configserver.environment.WatchedDirectoryEnvironmentRepository;
+import com.interplug.configserver.push.ConfigChangeBroadcaster;
+import com.interplug.configserver.push.ConfigPushProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.config.server.environment.EnvironmentRepository;
+import org.springframework.cloud.config.server.environment.MultipleJGitEnvironmentRepository;
+import org.springframework.cloud.config.server.environment.SearchPathLocator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 설정 변경 푸시 (config.push.enabled=false 로 비활성화)
+ * 변경 감지는 저장소 버전(git 커밋 / 디렉토리 스냅샷) 비교로 하므로 Spring Cloud Bus / 메시지 브로커 불필요
+ * 그 밖의 저장소는 버전만 따로 조회할 수 없으므로 주기마다 Environment 를 조회해 비교
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "config.push", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(ConfigPushProperties.class)
+public class ConfigPushConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public ConfigChangeBroadcaster configChangeBroadcaster(EnvironmentRepository environmentRepository,
+                                                           ObjectProvider<MultipleJGitEnvironmentRepository> gitRepository,
+                                                           ObjectProvider<WatchedDirectoryEnvironmentRepository> directoryRepository,
+                                                           ConfigPushProperties configPushProperties) {
+        SearchPathLocator versionLocator = gitRepository.getIfAvailable();
+        if (versionLocator == null) {
+            versionLocator = directoryRepository.getIfAvailable();
+        }
+        return new ConfigChangeBroadcaster(environmentRepository, versionLocator, configPushProperties);
+    }
+}
@@ -0,0 +1,48 @@
+package com.interplug.configserver.config;
+
+import com.interplug.configserver.environment.EnvironmentCacheProperties;
+import com.interplug.configserver.environment.EnvironmentResponseCacheFilter;
+import com.interplug.configserver.environment.WatchedDirectoryEnvironmentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.cloud.config.server.environment.MultipleJGitEnvironmentRepository;
+import org.springframework.cloud.config.server.environment.SearchPathLocator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 커밋 기준 설정 응답 캐시 (config.environment-cache.enabled=false 로 비활성화)
+ * 커밋 id(로컬 디렉토리 저장소는 스냅샷 버전)는 저장소에서 직접 조회 (composite 저장소는 version을 전달하지 않음)
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "config.environment-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(EnvironmentCacheProperties.class)
+public class EnvironmentCacheConfig {
+
+    @Bean
+    public FilterRegistrationBean<EnvironmentResponseCacheFilter> environmentResponseCacheFilter(
+            ObjectProvider<MultipleJGitEnvironmentRepository> gitRepository,
+            ObjectProvider<WatchedDirectoryEnvironmentRepository> directoryRepository,
+            EnvironmentCacheProperties environmentCacheProperties, MeterRegistry meterRegistry) {
+        SearchPathLocator repository = gitRepository.getIfAvailable();
+        if (repository == null) {
+            repository = directoryRepository.getIfAvailable();
+        }
+        FilterRegistrationBean<EnvironmentResponseCacheFilter> registration = new FilterRegistrationBean<>(
+                new EnvironmentResponseCacheFilter(repository, environmentCacheProperties.getMaxEntries(),
+                        environmentCacheProperties.getVersionTtl(), meterRegistry));
+        if (repository == null) {
+            log.info("Config response cache disabled: no versioned environment repository");
+            registration.setEnabled(false);
+        }
+        // 인증(Spring Security) 이후에 동작해야 캐시된 응답이 인증 없이 노출되지 않음
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,25 @@
+package com.interplug.configserver.config;
+
+import com.interplug.configserver.environment.NativeDirectoryProperties;
+import com.interplug.configserver.environment.WatchedDirectoryEnvironmentRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * git 서버 없이 로컬 디렉토리를 설정 저장소로 사용 (config.native-dir.enabled=true)
+ * EnvironmentRepository 빈이 등록되므로 기본 git 저장소 구성은 생성되지 않음
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "config.native-dir", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(NativeDirectoryProperties.class)
+public class NativeDirectoryConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public WatchedDirectoryEnvironmentRepository watchedDirectoryEnvironmentRepository(
+            NativeDirectoryProperties nativeDirectoryProperties) {
+        return new WatchedDirectoryEnvironmentRepository(nativeDirectoryProperties.getPath(),
+                nativeDirectoryProperties.getDebounce());
+    }
+}
@@ -1,6 +1,10 @@
 package com.interplug.configserver.config;
 
+import com.interplug.configserver.security.AuthCacheProperties;
+import com.interplug.configserver.security.CachingPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
@@ -11,12 +15,14 @@ import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties(AuthCacheProperties.class)
 public class SecurityConfig implements WebMvcConfigurer {
 
     @Value("${config.username}")
@@ -25,9 +31,17 @@ public class SecurityConfig implements WebMvcConfigurer {
     @Value("${config.password}")
     private String password;
 
+    /**
+     * BCrypt 검증 결과 캐시 (config.auth-cache.enabled=false 면 BCrypt 단독 사용)
+     */
     @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(AuthCacheProperties authCacheProperties, MeterRegistry meterRegistry) {
+        BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder();
+        if (!authCacheProperties.isEnabled()) {
+            return bCryptPasswordEncoder;
+        }
+        return new CachingPasswordEncoder(bCryptPasswordEncoder,
+                authCacheProperties.getMaxSize(), authCacheProperties.getTtl(), meterRegistry);
     }
 
     @Bean
@@ -40,11 +54,11 @@ public class SecurityConfig implements WebMvcConfigurer {
     }
 
     @Bean
-    public UserDetailsService userDetailsService() {
+    public UserDetailsService userDetailsService(PasswordEncoder passwordEncoder) {
 
         UserDetails admin = User.builder()
                 .username(username)
-                .password(passwordEncoder().encode(password))
+                .password(passwordEncoder.encode(password))
                 .roles("ADMIN")
                 .build();
 
@@ -0,0 +1,35 @@
+package com.interplug.configserver.controller;
+
+import com.interplug.configserver.push.ConfigChangeBroadcaster;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Slf4j
+@RestController
+@RequestMapping("/push")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "config.push", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ConfigPushController {
+
+    private final ConfigChangeBroadcaster configChangeBroadcaster;
+
+    /**
+     * 설정 변경 푸시 (SSE)
+     * - event: snapshot → 병합된 전체 속성, event: diff → 바뀐 키 / 삭제된 키만
+     * - Last-Event-ID 헤더(마지막으로 받은 버전)가 현재 버전과 같으면 snapshot 생략
+     */
+    @GetMapping(path = "/{application}/{profile}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@PathVariable String application, @PathVariable String profile,
+                                @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        log.debug("Config push subscribed for {}/{}, Last-Event-ID: {}", application, profile, lastEventId);
+        return configChangeBroadcaster.subscribe(application, profile, lastEventId);
+    }
+}
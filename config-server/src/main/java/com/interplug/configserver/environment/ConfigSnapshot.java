@@ -0,0 +1,29 @@
+package com.interplug.configserver.environment;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 특정 시점의 설정 디렉토리 전체를 파싱해 둔 불변 스냅샷
+ *
+ * @param version  파일 내용 기준 버전 (내용이 같으면 재기동 후에도 같은 값)
+ * @param sequence 프로세스 내 스냅샷 발행 순번
+ * @param files    파일 이름(확장자 포함) → 파싱된 파일
+ */
+public record ConfigSnapshot(String version, long sequence, Map<String, ParsedFile> files) {
+
+    /**
+     * @param digest    파일 내용 해시
+     * @param documents 파일 안의 문서 (파일에 적힌 순서, 뒤쪽 문서가 우선)
+     */
+    public record ParsedFile(String digest, List<Document> documents) {
+    }
+
+    /**
+     * @param source     PropertySource 이름 (파일 URI, 여러 문서면 "(document #n)" 포함)
+     * @param onProfile  spring.config.activate.on-profile 값 (없으면 null, 항상 적용)
+     * @param properties 평탄화된 속성 (불변)
+     */
+    public record Document(String source, String onProfile, Map<String, Object> properties) {
+    }
+}
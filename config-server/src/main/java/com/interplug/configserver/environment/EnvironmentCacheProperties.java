@@ -0,0 +1,26 @@
+package com.interplug.configserver.environment;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 커밋 기준 설정 응답 캐시 설정 (config.environment-cache.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "config.environment-cache")
+public class EnvironmentCacheProperties {
+
+    /** 응답 캐시 사용 여부 */
+    private boolean enabled = true;
+
+    /** 캐시 최대 항목 수 (application / profile / label / 형식 조합 단위) */
+    private int maxEntries = 1_000;
+
+    /**
+     * 조회한 커밋 id 재사용 시간 (spring.cloud.config.server.git.refresh-rate 에 맞춤)
+     * 이 시간 동안 캐시 적중은 저장소(checkout / merge)를 거치지 않으며, 새 커밋 반영은 최대 이만큼 늦어짐
+     */
+    private Duration versionTtl = Duration.ofSeconds(5);
+}
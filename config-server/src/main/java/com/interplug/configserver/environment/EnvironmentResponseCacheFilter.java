@@ -0,0 +1,223 @@
+package com.interplug.configserver.environment;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.config.server.environment.SearchPathLocator;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 설정 조회 응답(/{application}/{profile}[/{label}], /[{label}/]{application}-{profile}.yml|yaml|properties|json)을
+ * 직렬화된 바이트 그대로 git 커밋 id 기준으로 캐시
+ * - 현재 커밋 id는 application / profile / label 별로 versionTtl 동안 재사용하고(git refresh-rate 에 맞춤),
+ *   커밋이 같으면 저장소 조회(checkout / merge) / 설정 파일 파싱 / 직렬화 없이 메모리에서 응답
+ * - 같은 키의 동시 미스는 한 요청만 생성하고 나머지는 그 결과를 사용
+ * - 메트릭: config.environment.cache{result=hit|miss|bypass}
+ */
+@Slf4j
+public class EnvironmentResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final Set<String> RESERVED_PATHS = Set.of("actuator", "encrypt", "decrypt", "key", "monitor", "push", "error");
+    private static final Set<String> EXTENSIONS = Set.of("yml", "yaml", "properties", "json");
+
+    private final SearchPathLocator locator;
+    private final int maxEntries;
+    private final long versionTtlNanos;
+    private final Map<String, CachedResponse> cache = new ConcurrentHashMap<>();
+    private final Map<ConfigRequest, ResolvedVersion> versions = new ConcurrentHashMap<>();
+    private final Object[] locks = new Object[64];
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter bypassCounter;
+
+    public EnvironmentResponseCacheFilter(SearchPathLocator locator, int maxEntries, Duration versionTtl,
+                                          MeterRegistry meterRegistry) {
+        this.locator = locator;
+        this.maxEntries = maxEntries;
+        this.versionTtlNanos = versionTtl.toNanos();
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+        this.hitCounter = Counter.builder("config.environment.cache").tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("config.environment.cache").tag("result", "miss").register(meterRegistry);
+        this.bypassCounter = Counter.builder("config.environment.cache").tag("result", "bypass").register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod()) || parse(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ConfigRequest configRequest = parse(request);
+        String version;
+        try {
+            version = currentVersion(configRequest);
+        } catch (RuntimeException e) {
+            // 없는 label 등은 기존 컨트롤러가 오류 응답을 만들도록 그대로 전달
+            bypassCounter.increment();
+            chain.doFilter(request, response);
+            return;
+        }
+        if (version == null) {
+            bypassCounter.increment();
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String key = cacheKey(request);
+        CachedResponse cached = cache.get(key);
+        if (cached != null && cached.version().equals(version)) {
+            hitCounter.increment();
+            cached.writeTo(response);
+            return;
+        }
+
+        synchronized (lockFor(key)) {
+            cached = cache.get(key);
+            if (cached != null && cached.version().equals(version)) {
+                hitCounter.increment();
+                cached.writeTo(response);
+                return;
+            }
+            missCounter.increment();
+
+            ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+            chain.doFilter(request, wrapper);
+            if (wrapper.getStatus() == HttpServletResponse.SC_OK) {
+                if (cache.size() >= maxEntries) {
+                    evict(version);
+                }
+                cache.put(key, new CachedResponse(version, wrapper.getContentType(), wrapper.getContentAsByteArray()));
+                if (cached != null) {
+                    log.info("Config response cache refreshed for {} (commit {} -> {})",
+                            request.getRequestURI(), cached.version(), version);
+                }
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    /**
+     * versionTtl 안에 조회한 커밋 id가 있으면 그대로 사용 (JGit 저장소의 getLocations 는 저장소 전체 락을 잡고 refresh 하므로
+     * 요청마다 호출하지 않음). 만료됐으면 같은 요청 키는 한 요청만 저장소를 조회
+     */
+    private String currentVersion(ConfigRequest configRequest) {
+        ResolvedVersion resolved = versions.get(configRequest);
+        if (resolved != null && !resolved.isExpired(versionTtlNanos)) {
+            return resolved.version();
+        }
+        synchronized (lockFor(configRequest)) {
+            resolved = versions.get(configRequest);
+            if (resolved != null && !resolved.isExpired(versionTtlNanos)) {
+                return resolved.version();
+            }
+            long resolvedAt = System.nanoTime();
+            String version = locator.getLocations(configRequest.application(), configRequest.profile(),
+                    configRequest.label()).getVersion();
+            if (version == null) {
+                versions.remove(configRequest);
+                return null;
+            }
+            if (versions.size() >= maxEntries) {
+                versions.values().removeIf(entry -> entry.isExpired(versionTtlNanos));
+            }
+            versions.put(configRequest, new ResolvedVersion(version, resolvedAt));
+            return version;
+        }
+    }
+
+    private Object lockFor(Object key) {
+        return locks[Math.floorMod(key.hashCode(), locks.length)];
+    }
+
+    /**
+     * 이전 커밋의 항목을 먼저 정리하고, 그래도 가득 차 있으면 임의 항목을 제거
+     */
+    private void evict(String currentVersion) {
+        cache.values().removeIf(entry -> !entry.version().equals(currentVersion));
+        Iterator<String> iterator = cache.keySet().iterator();
+        while (cache.size() >= maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private static String cacheKey(HttpServletRequest request) {
+        String accept = request.getHeader("Accept");
+        return request.getRequestURI()
+                + "?" + (request.getQueryString() != null ? request.getQueryString() : "")
+                + "|" + (accept != null ? accept : "");
+    }
+
+    /**
+     * EnvironmentController 경로에서 application / profile / label 추출 (대상이 아니면 null)
+     */
+    static ConfigRequest parse(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String[] segments = path.startsWith("/") ? path.substring(1).split("/") : path.split("/");
+        if (segments.length == 0 || segments[0].isEmpty() || RESERVED_PATHS.contains(segments[0])) {
+            return null;
+        }
+
+        String last = segments[segments.length - 1];
+        int dot = last.lastIndexOf('.');
+        if (dot > 0 && EXTENSIONS.contains(last.substring(dot + 1)) && segments.length <= 2) {
+            String name = last.substring(0, dot);
+            int dash = name.lastIndexOf('-');
+            if (dash <= 0) {
+                return null;
+            }
+            String label = segments.length == 2 ? segments[0] : null;
+            return new ConfigRequest(name.substring(0, dash), name.substring(dash + 1), label);
+        }
+        if (segments.length == 2 || segments.length == 3) {
+            String label = segments.length == 3 ? segments[2] : null;
+            return new ConfigRequest(segments[0], segments[1], label);
+        }
+        return null;
+    }
+
+    record ConfigRequest(String application, String profile, String label) {
+
+        ConfigRequest {
+            // EnvironmentController와 동일하게 label의 (_)는 / 로 해석
+            if (label != null) {
+                label = label.replace("(_)", "/");
+            }
+        }
+    }
+
+    private record ResolvedVersion(String version, long resolvedAt) {
+
+        boolean isExpired(long ttlNanos) {
+            return System.nanoTime() - resolvedAt >= ttlNanos;
+        }
+    }
+
+    private record CachedResponse(String version, String contentType, byte[] body) {
+
+        void writeTo(HttpServletResponse response) throws IOException {
+            response.setStatus(HttpServletResponse.SC_OK);
+            if (contentType != null) {
+                response.setContentType(contentType);
+            }
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+}
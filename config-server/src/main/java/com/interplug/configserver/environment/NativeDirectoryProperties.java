@@ -0,0 +1,23 @@
+package com.interplug.configserver.environment;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 로컬 디렉토리 설정 저장소 (config.native-dir.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "config.native-dir")
+public class NativeDirectoryProperties {
+
+    /** 활성화 시 git 저장소 대신 로컬 디렉토리를 설정 저장소로 사용 */
+    private boolean enabled = false;
+
+    /** 설정 파일 디렉토리 ({application}[-{profile}].yml|yaml|properties) */
+    private String path = "./config-file";
+
+    /** 파일 변경 이벤트를 모아서 처리하는 대기 시간 (에디터 저장 시 연속 이벤트 병합) */
+    private Duration debounce = Duration.ofMillis(200);
+}
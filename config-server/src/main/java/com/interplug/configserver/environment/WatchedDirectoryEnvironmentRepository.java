@@ -0,0 +1,288 @@
+package com.interplug.configserver.environment;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.env.PropertiesPropertySourceLoader;
+import org.springframework.boot.env.PropertySourceLoader;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.cloud.config.environment.Environment;
+import org.springframework.cloud.config.environment.PropertySource;
+import org.springframework.cloud.config.server.environment.EnvironmentRepository;
+import org.springframework.cloud.config.server.environment.SearchPathLocator;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.Profiles;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 디렉토리 기반 설정 저장소
+ * - 기동 시 전체 파일을 파싱해 불변 스냅샷을 만들고, WatchService 이벤트가 온 파일만 다시 파싱하여 새 스냅샷으로 교체
+ * - 요청 처리 시에는 현재 스냅샷 참조 하나만 읽어 Environment를 조립 (파싱 없음, 항상 한 시점의 일관된 설정)
+ * - Environment.version 은 스냅샷 버전(파일 내용 해시)이므로 클라이언트가 변경 여부 비교에 사용 가능
+ * - 파싱에 실패한 파일은 이전 내용을 유지
+ * - 같은 이름의 파일은 .properties > .yml > .yaml 순으로 우선 (Spring Boot 와 동일)
+ * - 여러 문서로 된 파일은 문서별로 PropertySource 를 만들고, spring.config.activate.on-profile 이 있는 문서는
+ *   요청한 profile 과 맞을 때만 포함
+ */
+@Slf4j
+public class WatchedDirectoryEnvironmentRepository implements EnvironmentRepository, SearchPathLocator {
+
+    private static final String DEFAULT_APPLICATION = "application";
+    private static final String ON_PROFILE = "spring.config.activate.on-profile";
+    // 우선순위 순서
+    private static final List<String> EXTENSIONS = List.of("properties", "yml", "yaml");
+    private static final long RESCAN_RETRY_MILLIS = 1_000;
+
+    private final Path directory;
+    private final long debounceMillis;
+    private final Map<String, PropertySourceLoader> loaders = Map.of(
+            "properties", new PropertiesPropertySourceLoader(),
+            "yml", new YamlPropertySourceLoader(),
+            "yaml", new YamlPropertySourceLoader());
+    private volatile ConfigSnapshot snapshot;
+    private WatchService watchService;
+
+    public WatchedDirectoryEnvironmentRepository(String path, Duration debounce) {
+        this.directory = Path.of(path).toAbsolutePath().normalize();
+        this.debounceMillis = debounce.toMillis();
+    }
+
+    public void start() throws IOException {
+        long started = System.nanoTime();
+        snapshot = build(null, listConfigFiles(), 1);
+        log.info("Config snapshot {} loaded from {} ({} files, {} ms)", snapshot.version(), directory,
+                snapshot.files().size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+
+        watchService = FileSystems.getDefault().newWatchService();
+        directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        Thread.ofPlatform().name("config-dir-watcher").daemon().start(this::watchLoop);
+    }
+
+    public void stop() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    public ConfigSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    @Override
+    public Environment findOne(String application, String profile, String label) {
+        return findOne(application, profile, label, false);
+    }
+
+    @Override
+    public Environment findOne(String application, String profile, String label, boolean includeOrigin) {
+        ConfigSnapshot current = snapshot;
+        String[] applications = StringUtils.commaDelimitedListToStringArray(application);
+        String[] profiles = StringUtils.hasText(profile)
+                ? StringUtils.commaDelimitedListToStringArray(profile)
+                : new String[]{"default"};
+
+        Environment environment = new Environment(application, profiles, label, current.version(), null);
+        // 우선순위: 뒤쪽 profile > 앞쪽 profile > profile 없음, 같은 단계에서는 {application} > application
+        for (int p = profiles.length - 1; p >= 0; p--) {
+            for (int a = applications.length - 1; a >= 0; a--) {
+                addSources(environment, current, applications[a] + "-" + profiles[p], profiles);
+            }
+            addSources(environment, current, DEFAULT_APPLICATION + "-" + profiles[p], profiles);
+        }
+        for (int a = applications.length - 1; a >= 0; a--) {
+            if (!DEFAULT_APPLICATION.equals(applications[a])) {
+                addSources(environment, current, applications[a], profiles);
+            }
+        }
+        addSources(environment, current, DEFAULT_APPLICATION, profiles);
+        return environment;
+    }
+
+    @Override
+    public Locations getLocations(String application, String profile, String label) {
+        return new Locations(application, profile, label, snapshot.version(),
+                new String[]{directory.toUri().toString()});
+    }
+
+    /**
+     * name.properties / name.yml / name.yaml 의 문서를 우선순위 순으로 추가 (파일 안에서는 뒤쪽 문서가 우선)
+     */
+    private static void addSources(Environment environment, ConfigSnapshot current, String name, String[] profiles) {
+        List<String> activeProfiles = List.of(profiles);
+        for (String extension : EXTENSIONS) {
+            ConfigSnapshot.ParsedFile file = current.files().get(name + "." + extension);
+            if (file == null) {
+                continue;
+            }
+            List<ConfigSnapshot.Document> documents = file.documents();
+            for (int d = documents.size() - 1; d >= 0; d--) {
+                ConfigSnapshot.Document document = documents.get(d);
+                if (document.onProfile() == null || Profiles.of(
+                        StringUtils.commaDelimitedListToStringArray(document.onProfile()))
+                        .matches(activeProfiles::contains)) {
+                    environment.add(new PropertySource(document.source(), document.properties()));
+                }
+            }
+        }
+    }
+
+    /**
+     * 한 번의 반영이 실패해도 감시를 계속하고, 실패한 반영은 전체 재스캔으로 다시 시도
+     */
+    private void watchLoop() {
+        boolean rescanPending = false;
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Set<Path> changed = new HashSet<>();
+                WatchKey first = rescanPending
+                        ? watchService.poll(RESCAN_RETRY_MILLIS, TimeUnit.MILLISECONDS)
+                        : watchService.take();
+                boolean overflow = rescanPending;
+                if (first != null) {
+                    overflow |= collect(first, changed);
+                }
+                // 연속으로 들어오는 이벤트를 debounce 시간 동안 모아서 한 번에 반영
+                WatchKey next;
+                while ((next = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS)) != null) {
+                    overflow |= collect(next, changed);
+                }
+                if (overflow || !changed.isEmpty()) {
+                    rescanPending = true;
+                    apply(overflow ? listConfigFiles() : changed, overflow);
+                    rescanPending = false;
+                }
+            } catch (ClosedWatchServiceException | InterruptedException e) {
+                log.info("Config directory watcher stopped");
+                return;
+            } catch (RuntimeException e) {
+                log.error("Config directory change could not be applied, retrying with a full rescan: {}",
+                        e.getMessage(), e);
+            }
+        }
+    }
+
+    private boolean collect(WatchKey key, Set<Path> changed) {
+        boolean overflow = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                overflow = true;
+            } else if (event.context() instanceof Path file && extensionOf(file) != null) {
+                changed.add(directory.resolve(file));
+            }
+        }
+        key.reset();
+        return overflow;
+    }
+
+    private void apply(Set<Path> changed, boolean fullScan) {
+        long started = System.nanoTime();
+        ConfigSnapshot previous = snapshot;
+        ConfigSnapshot next = build(fullScan ? null : previous, changed, previous.sequence() + 1);
+        if (next.version().equals(previous.version())) {
+            return;
+        }
+        snapshot = next;
+        log.info("Config snapshot {} published ({} files re-parsed, {} ms)", next.version(), changed.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    /**
+     * base 스냅샷에 changed 파일만 다시 반영한 새 스냅샷 생성 (base가 null이면 changed가 전체 파일 목록)
+     */
+    private ConfigSnapshot build(ConfigSnapshot base, Set<Path> changed, long sequence) {
+        Map<String, ConfigSnapshot.ParsedFile> files = base != null ? new TreeMap<>(base.files()) : new TreeMap<>();
+        for (Path path : changed) {
+            String name = path.getFileName().toString();
+            if (!Files.isRegularFile(path)) {
+                files.remove(name);
+                continue;
+            }
+            try {
+                files.put(name, parse(path));
+            } catch (IOException | RuntimeException e) {
+                log.warn("Failed to parse {}, keeping previous content: {}", path, e.getMessage());
+            }
+        }
+        return new ConfigSnapshot(versionOf(files), sequence, Collections.unmodifiableMap(files));
+    }
+
+    private ConfigSnapshot.ParsedFile parse(Path path) throws IOException {
+        byte[] content = Files.readAllBytes(path);
+        List<ConfigSnapshot.Document> documents = new ArrayList<>();
+        PropertySourceLoader loader = loaders.get(extensionOf(path));
+        // 여러 문서면 로더가 "<이름> (document #n)" 으로 구분해 줌
+        for (org.springframework.core.env.PropertySource<?> document : loader.load(path.toUri().toString(),
+                new FileSystemResource(path))) {
+            if (document instanceof EnumerablePropertySource<?> enumerable) {
+                Map<String, Object> properties = new LinkedHashMap<>();
+                for (String key : enumerable.getPropertyNames()) {
+                    properties.put(key, enumerable.getProperty(key));
+                }
+                Object onProfile = properties.get(ON_PROFILE);
+                documents.add(new ConfigSnapshot.Document(document.getName(),
+                        onProfile != null ? onProfile.toString() : null, Collections.unmodifiableMap(properties)));
+            }
+        }
+        return new ConfigSnapshot.ParsedFile(digest(content), List.copyOf(documents));
+    }
+
+    private Set<Path> listConfigFiles() {
+        try (Stream<Path> stream = Files.list(directory)) {
+            Set<Path> files = new HashSet<>();
+            stream.filter(Files::isRegularFile).filter(path -> extensionOf(path) != null).forEach(files::add);
+            return files;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list config directory " + directory, e);
+        }
+    }
+
+    private static String versionOf(Map<String, ConfigSnapshot.ParsedFile> files) {
+        StringBuilder builder = new StringBuilder();
+        files.forEach((name, file) -> builder.append(name).append('=').append(file.digest()).append('\n'));
+        return digest(builder.toString().getBytes(StandardCharsets.UTF_8)).substring(0, 16);
+    }
+
+    private static String digest(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String extensionOf(Path path) {
+        String fileName = path.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        if (dot <= 0) {
+            return null;
+        }
+        String extension = fileName.substring(dot + 1);
+        return EXTENSIONS.contains(extension) ? extension : null;
+    }
+}
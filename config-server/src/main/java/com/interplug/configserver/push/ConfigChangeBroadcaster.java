@@ -0,0 +1,184 @@
+package com.interplug.configserver.push;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.config.environment.Environment;
+import org.springframework.cloud.config.environment.PropertySource;
+import org.springframework.cloud.config.server.environment.EnvironmentRepository;
+import org.springframework.cloud.config.server.environment.SearchPathLocator;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * application / profile 별 구독자에게 설정 변경분을 SSE로 전송
+ * - 구독 시: Last-Event-ID(버전)가 현재 버전과 다르면 event: snapshot (병합된 전체 속성)
+ * - 저장소 버전(git 커밋 / 디렉토리 스냅샷)이 바뀌면 병합 결과를 비교해 바뀐 키만 event: diff 로 전송
+ * - 버전만 따로 조회할 수 없는 저장소(versionLocator 없음)는 매 주기 Environment 를 조회해 버전 / 내용으로 비교
+ * - 이벤트 id 는 설정 버전
+ */
+@Slf4j
+public class ConfigChangeBroadcaster {
+
+    private final EnvironmentRepository environmentRepository;
+    private final SearchPathLocator versionLocator; // null 이면 Environment 조회로 비교
+    private final ConfigPushProperties properties;
+    private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("config-push").daemon().factory());
+
+    public ConfigChangeBroadcaster(EnvironmentRepository environmentRepository, SearchPathLocator versionLocator,
+                                   ConfigPushProperties properties) {
+        this.environmentRepository = environmentRepository;
+        this.versionLocator = versionLocator;
+        this.properties = properties;
+    }
+
+    public void start() {
+        if (versionLocator == null) {
+            log.info("Config push polls {} for every change check (no lightweight version lookup)",
+                    environmentRepository.getClass().getSimpleName());
+        }
+        long pollMillis = properties.getPollInterval().toMillis();
+        long heartbeatMillis = properties.getHeartbeatInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::pollChanges, pollMillis, pollMillis, TimeUnit.MILLISECONDS);
+        executor.scheduleAtFixedRate(this::heartbeat, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        executor.shutdownNow();
+        subscriptions.values().forEach(subscription -> subscription.emitters.forEach(SseEmitter::complete));
+    }
+
+    public SseEmitter subscribe(String application, String profile, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(properties.getConnectionTimeout().toMillis());
+        // 구독 추가와 변경 전송을 같은 스레드에서 처리하여 snapshot 이후의 diff 누락 방지
+        executor.execute(() -> {
+            Subscription subscription = subscriptions.computeIfAbsent(application + "/" + profile,
+                    key -> new Subscription(application, profile));
+            emitter.onCompletion(() -> subscription.emitters.remove(emitter));
+            emitter.onTimeout(() -> subscription.emitters.remove(emitter));
+            emitter.onError(e -> subscription.emitters.remove(emitter));
+            try {
+                if (subscription.version == null) {
+                    load(subscription);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Config push subscription failed for {}/{}: {}", application, profile, e.getMessage());
+                subscriptions.remove(application + "/" + profile, subscription);
+                emitter.completeWithError(e);
+                return;
+            }
+            if (lastEventId != null && lastEventId.equals(subscription.version)
+                    || send(subscription, emitter, "snapshot", new ConfigDiff(application, profile,
+                    subscription.version, null, subscription.properties, Set.of()))) {
+                subscription.emitters.add(emitter);
+            }
+        });
+        return emitter;
+    }
+
+    private void pollChanges() {
+        subscriptions.values().removeIf(subscription -> subscription.emitters.isEmpty());
+        for (Subscription subscription : subscriptions.values()) {
+            try {
+                if (versionLocator != null) {
+                    String version = versionLocator.getLocations(subscription.application, subscription.profile,
+                            null).getVersion();
+                    if (version != null && version.equals(subscription.version)) {
+                        continue;
+                    }
+                }
+                // 버전이 바뀌었거나 알 수 없으면 다시 조회해 병합 결과 비교 (내용이 같으면 전송하지 않음)
+                String previousVersion = subscription.version;
+                Map<String, Object> previous = subscription.properties;
+                load(subscription);
+                ConfigDiff diff = diff(subscription, previousVersion, previous);
+                if (diff.changed().isEmpty() && diff.removed().isEmpty()) {
+                    continue;
+                }
+                log.info("Pushing config diff {}/{} {} -> {} (changed: {}, removed: {}) to {} clients",
+                        subscription.application, subscription.profile, previousVersion, subscription.version,
+                        diff.changed().keySet(), diff.removed(), subscription.emitters.size());
+                subscription.emitters.forEach(emitter -> send(subscription, emitter, "diff", diff));
+            } catch (RuntimeException e) {
+                log.warn("Config change check failed for {}/{}: {}", subscription.application, subscription.profile,
+                        e.getMessage());
+            }
+        }
+    }
+
+    private void load(Subscription subscription) {
+        Environment environment = environmentRepository.findOne(subscription.application, subscription.profile, null);
+        subscription.version = environment.getVersion();
+        subscription.properties = merge(environment);
+    }
+
+    private static ConfigDiff diff(Subscription subscription, String previousVersion, Map<String, Object> previous) {
+        Map<String, Object> changed = new LinkedHashMap<>();
+        subscription.properties.forEach((key, value) -> {
+            if (!Objects.equals(previous.get(key), value)) {
+                changed.put(key, value);
+            }
+        });
+        Set<String> removed = new TreeSet<>(previous.keySet());
+        removed.removeAll(subscription.properties.keySet());
+        return new ConfigDiff(subscription.application, subscription.profile, subscription.version, previousVersion,
+                changed, removed);
+    }
+
+    /**
+     * 우선순위가 높은 PropertySource(앞쪽)가 이기도록 병합
+     */
+    private static Map<String, Object> merge(Environment environment) {
+        Map<String, Object> merged = new HashMap<>();
+        List<PropertySource> sources = environment.getPropertySources();
+        for (int i = sources.size() - 1; i >= 0; i--) {
+            sources.get(i).getSource().forEach((key, value) -> merged.put(String.valueOf(key), value));
+        }
+        return merged;
+    }
+
+    private void heartbeat() {
+        subscriptions.values().forEach(subscription -> subscription.emitters
+                .forEach(emitter -> send(subscription, emitter, null, null)));
+    }
+
+    private boolean send(Subscription subscription, SseEmitter emitter, String name, ConfigDiff data) {
+        try {
+            emitter.send(name == null
+                    ? SseEmitter.event().comment("keep-alive")
+                    : SseEmitter.event().id(data.version()).name(name).data(data));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            subscription.emitters.remove(emitter);
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private static final class Subscription {
+
+        private final String application;
+        private final String profile;
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        private volatile String version;
+        private volatile Map<String, Object> properties = Map.of();
+
+        private Subscription(String application, String profile) {
+            this.application = application;
+            this.profile = profile;
+        }
+    }
+}
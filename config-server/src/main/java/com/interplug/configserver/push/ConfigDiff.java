@@ -0,0 +1,16 @@
+package com.interplug.configserver.push;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * application / profile 단위 설정 변경분
+ * - snapshot 이벤트: previousVersion 없이 changed 에 전체 속성
+ * - diff 이벤트: previousVersion 대비 바뀐 키(changed)와 삭제된 키(removed)만 포함
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public record ConfigDiff(String application, String profile, String version, String previousVersion,
+                         Map<String, Object> changed, Set<String> removed) {
+}
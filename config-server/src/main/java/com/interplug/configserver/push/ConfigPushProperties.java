@@ -0,0 +1,26 @@
+package com.interplug.configserver.push;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 설정 변경 푸시 설정 (config.push.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "config.push")
+public class ConfigPushProperties {
+
+    /** GET /push/{application}/{profile} (SSE) 제공 여부 */
+    private boolean enabled = true;
+
+    /** 구독 중인 application / profile의 저장소 버전 확인 주기 */
+    private Duration pollInterval = Duration.ofSeconds(2);
+
+    /** keep-alive 주석 전송 주기 */
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    /** 연결 유지 시간 (만료 시 클라이언트가 Last-Event-ID로 재접속) */
+    private Duration connectionTimeout = Duration.ofMinutes(30);
+}
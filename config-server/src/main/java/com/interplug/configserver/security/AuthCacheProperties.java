@@ -0,0 +1,23 @@
+package com.interplug.configserver.security;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Basic 인증 검증 결과 캐시 설정 (config.auth-cache.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "config.auth-cache")
+public class AuthCacheProperties {
+
+    /** 인증 성공 캐시 사용 여부 (false면 매 요청 BCrypt 검증) */
+    private boolean enabled = true;
+
+    /** 캐시 최대 항목 수 */
+    private int maxSize = 1_000;
+
+    /** 캐시 유지 시간 (비밀번호 변경 / 폐기 반영 지연의 상한) */
+    private Duration ttl = Duration.ofMinutes(5);
+}
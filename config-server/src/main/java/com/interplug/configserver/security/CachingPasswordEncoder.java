@@ -0,0 +1,113 @@
+package com.interplug.configserver.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * BCrypt 검증 앞단에서 성공한 검증 결과를 제한된 크기 / 시간 동안 캐시하는 PasswordEncoder
+ * - 키: 프로세스 기동 시 생성한 비밀키로 계산한 HMAC-SHA256(저장된 해시, 입력 비밀번호)
+ *   평문 비밀번호는 메모리에 남기지 않고, 저장된 해시가 바뀌면(비밀번호 변경) 자연히 캐시 미스
+ * - 실패한 검증은 캐시하지 않으므로 잘못된 비밀번호는 항상 BCrypt 비용을 치름
+ * - 메트릭: config.auth.cache{result=hit|miss}, config.auth.bcrypt (BCrypt 검증 시간)
+ */
+public class CachingPasswordEncoder implements PasswordEncoder {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final PasswordEncoder delegate;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final SecretKeySpec hmacKey;
+    private final Map<String, Long> verified = new ConcurrentHashMap<>();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Timer bcryptTimer;
+
+    public CachingPasswordEncoder(PasswordEncoder delegate, int maxSize, Duration ttl, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.hmacKey = new SecretKeySpec(key, HMAC_ALGORITHM);
+        this.hitCounter = Counter.builder("config.auth.cache").tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("config.auth.cache").tag("result", "miss").register(meterRegistry);
+        this.bcryptTimer = Timer.builder("config.auth.bcrypt")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) {
+            return delegate.matches(rawPassword, encodedPassword);
+        }
+        String key = cacheKey(rawPassword, encodedPassword);
+        long now = System.nanoTime();
+        Long expiresAt = verified.get(key);
+        if (expiresAt != null && expiresAt - now > 0) {
+            hitCounter.increment();
+            return true;
+        }
+        missCounter.increment();
+
+        boolean matches = bcryptTimer.record(() -> delegate.matches(rawPassword, encodedPassword));
+        if (matches) {
+            if (verified.size() >= maxSize) {
+                evict(now);
+            }
+            verified.put(key, now + ttlNanos);
+        } else if (expiresAt != null) {
+            verified.remove(key);
+        }
+        return matches;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 만료 항목을 정리하고, 그래도 가득 차 있으면 임의 항목을 제거하여 크기 제한 유지
+     */
+    private void evict(long now) {
+        verified.values().removeIf(expiresAt -> expiresAt - now <= 0);
+        Iterator<String> iterator = verified.keySet().iterator();
+        while (verified.size() >= maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private String cacheKey(CharSequence rawPassword, String encodedPassword) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(hmacKey);
+            mac.update(encodedPassword.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            mac.update(rawPassword.toString().getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(mac.doFinal());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC not available", e);
+        }
+    }
+}
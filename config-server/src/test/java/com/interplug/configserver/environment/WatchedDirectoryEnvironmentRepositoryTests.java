@@ -0,0 +1,71 @@
+package com.interplug.configserver.environment;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cloud.config.environment.Environment;
+import org.springframework.cloud.config.environment.PropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WatchedDirectoryEnvironmentRepositoryTests {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void propertiesAndYamlWithSameNameAreBothServedWithPropertiesFirst() throws IOException {
+        Files.writeString(dir.resolve("app.properties"), "shared=properties\nonly.properties=1\n");
+        Files.writeString(dir.resolve("app.yml"), "shared: yaml\nonly:\n  yaml: 1\n");
+
+        Environment environment = findOne("app", "default");
+
+        assertThat(environment.getPropertySources()).extracting(PropertySource::getName)
+                .containsExactly(dir.resolve("app.properties").toUri().toString(),
+                        dir.resolve("app.yml").toUri().toString());
+        assertThat(value(environment, "shared")).isEqualTo("properties");
+        assertThat(value(environment, "only.yaml")).isEqualTo(1);
+    }
+
+    @Test
+    void profileDocumentIsIncludedOnlyForMatchingProfile() throws IOException {
+        Files.writeString(dir.resolve("app.yml"), """
+                greeting: base
+                ---
+                spring:
+                  config:
+                    activate:
+                      on-profile: prod
+                greeting: prod
+                """);
+
+        assertThat(value(findOne("app", "default"), "greeting")).isEqualTo("base");
+        assertThat(findOne("app", "default").getPropertySources()).hasSize(1);
+        assertThat(value(findOne("app", "dev,prod"), "greeting")).isEqualTo("prod");
+    }
+
+    private Environment findOne(String application, String profile) throws IOException {
+        WatchedDirectoryEnvironmentRepository repository =
+                new WatchedDirectoryEnvironmentRepository(dir.toString(), Duration.ofMillis(10));
+        repository.start();
+        try {
+            return repository.findOne(application, profile, null);
+        } finally {
+            repository.stop();
+        }
+    }
+
+    /**
+     * 앞쪽 PropertySource 가 우선
+     */
+    private static Object value(Environment environment, String key) {
+        return environment.getPropertySources().stream()
+                .filter(source -> source.getSource().containsKey(key))
+                .map(source -> source.getSource().get(key))
+                .findFirst().orElse(null);
+    }
+}
@@ -0,0 +1,29 @@
+package com.interplug.eureka.config;
+
+import com.interplug.eureka.filter.RegistryFetchCacheFilter;
+import com.netflix.eureka.EurekaServerConfig;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 레지스트리 조회 ETag / gzip 캐시 응답 (eureka.fetch-cache.enabled=false 로 비활성화)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "eureka.fetch-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class FetchCacheConfig {
+
+    @Bean
+    public FilterRegistrationBean<RegistryFetchCacheFilter> registryFetchCacheFilter(
+            PeerAwareInstanceRegistry registry, EurekaServerConfig eurekaServerConfig, MeterRegistry meterRegistry) {
+        FilterRegistrationBean<RegistryFetchCacheFilter> registration = new FilterRegistrationBean<>(
+                new RegistryFetchCacheFilter(registry, eurekaServerConfig, meterRegistry));
+        registration.addUrlPatterns("/eureka/apps", "/eureka/apps/", "/eureka/apps/delta", "/eureka/apps/delta/");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 100);
+        return registration;
+    }
+}
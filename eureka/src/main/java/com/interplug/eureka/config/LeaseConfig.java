@@ -0,0 +1,26 @@
+package com.interplug.eureka.config;
+
+import com.interplug.eureka.lease.LeaseExpiryService;
+import com.interplug.eureka.lease.LeaseProperties;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * timer wheel 기반 리스 만료 (eureka.lease-wheel.enabled=false 로 비활성화)
+ * 기본 EvictionTask의 전체 스캔 주기는 application.yml의 eviction-interval-timer-in-ms로 늘려둠
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "eureka.lease-wheel", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(LeaseProperties.class)
+public class LeaseConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public LeaseExpiryService leaseExpiryService(PeerAwareInstanceRegistry registry, LeaseProperties leaseProperties,
+                                                 MeterRegistry meterRegistry) {
+        return new LeaseExpiryService(registry, leaseProperties, meterRegistry);
+    }
+}
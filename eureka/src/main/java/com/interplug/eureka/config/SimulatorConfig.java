@@ -0,0 +1,34 @@
+package com.interplug.eureka.config;
+
+import com.interplug.eureka.simulator.RegistryLoadSimulator;
+import com.interplug.eureka.simulator.SimulatorProperties;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 레지스트리 부하 시뮬레이터 (eureka.simulator.enabled=true 일 때만 활성화)
+ * 서버 기동 완료 후 시뮬레이션 시작
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "eureka.simulator", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(SimulatorProperties.class)
+public class SimulatorConfig {
+
+    @Bean(destroyMethod = "stop")
+    public RegistryLoadSimulator registryLoadSimulator(PeerAwareInstanceRegistry registry,
+                                                       SimulatorProperties simulatorProperties,
+                                                       MeterRegistry meterRegistry) {
+        return new RegistryLoadSimulator(registry, simulatorProperties, meterRegistry);
+    }
+
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> registryLoadSimulatorStarter(RegistryLoadSimulator simulator) {
+        return event -> simulator.start();
+    }
+}
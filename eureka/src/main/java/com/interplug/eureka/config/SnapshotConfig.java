@@ -0,0 +1,33 @@
+package com.interplug.eureka.config;
+
+import com.interplug.eureka.snapshot.RegistrySnapshotService;
+import com.interplug.eureka.snapshot.SnapshotProperties;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaRegistryAvailableEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 레지스트리 스냅샷 (eureka.snapshot.enabled=false 로 비활성화)
+ * 레지스트리 초기화가 끝난 시점(EurekaRegistryAvailableEvent)에 복원 후 주기적 저장 시작
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "eureka.snapshot", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(SnapshotProperties.class)
+public class SnapshotConfig {
+
+    @Bean(destroyMethod = "stop")
+    public RegistrySnapshotService registrySnapshotService(PeerAwareInstanceRegistry registry,
+                                                           SnapshotProperties snapshotProperties) {
+        return new RegistrySnapshotService(registry, snapshotProperties);
+    }
+
+    @Bean
+    public ApplicationListener<EurekaRegistryAvailableEvent> registrySnapshotStarter(
+            RegistrySnapshotService registrySnapshotService) {
+        return event -> registrySnapshotService.start();
+    }
+}
@@ -0,0 +1,24 @@
+package com.interplug.eureka.config;
+
+import com.interplug.eureka.stream.RegistryChangeFeed;
+import com.interplug.eureka.stream.StreamProperties;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 레지스트리 변경 스트림 (eureka.stream.enabled=false 로 비활성화)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "eureka.stream", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(StreamProperties.class)
+public class StreamConfig {
+
+    @Bean(destroyMethod = "stop")
+    public RegistryChangeFeed registryChangeFeed(PeerAwareInstanceRegistry registry,
+                                                 StreamProperties streamProperties) {
+        return new RegistryChangeFeed(registry, streamProperties);
+    }
+}
@@ -0,0 +1,33 @@
+package com.interplug.eureka.controller;
+
+import com.interplug.eureka.stream.RegistryChangeFeed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Slf4j
+@RestController
+@RequestMapping("/registry")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "eureka.stream", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RegistryStreamController {
+
+    private final RegistryChangeFeed registryChangeFeed;
+
+    /**
+     * 레지스트리 변경 스트림 (SSE)
+     * - event: snapshot → 현재 전체 인스턴스 목록, event: change → 인스턴스 단위 변경
+     * - Last-Event-ID 헤더로 재접속하면 누락된 변경분만 전송
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        log.debug("Registry stream subscribed, Last-Event-ID: {}", lastEventId);
+        return registryChangeFeed.subscribe(lastEventId);
+    }
+}
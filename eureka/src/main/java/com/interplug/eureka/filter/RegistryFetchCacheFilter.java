@@ -0,0 +1,151 @@
+package com.interplug.eureka.filter;
+
+import com.netflix.appinfo.EurekaAccept;
+import com.netflix.eureka.EurekaServerConfig;
+import com.netflix.eureka.Version;
+import com.netflix.eureka.registry.Key;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import com.netflix.eureka.registry.ResponseCacheImpl;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 전체 / delta 레지스트리 조회(GET /eureka/apps, /eureka/apps/delta)에 대한 조건부 응답
+ * - ResponseCache에 이미 gzip으로 인코딩된 payload를 그대로 전송 (Jersey 직렬화 경로 생략)
+ * - payload가 바뀔 때만 ETag를 다시 계산하고, If-None-Match가 일치하면 304 응답
+ * - 지역(regions) 조회 등 그 외 요청은 기존 Jersey 리소스로 전달
+ */
+public class RegistryFetchCacheFilter extends OncePerRequestFilter {
+
+    private static final String APPS_PATH = "/eureka/apps";
+    private static final String DELTA_PATH = "/eureka/apps/delta";
+
+    private final PeerAwareInstanceRegistry registry;
+    private final EurekaServerConfig serverConfig;
+    private final MeterRegistry meterRegistry;
+    private final Map<Key, CachedPayload> etags = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> payloadSizes = new ConcurrentHashMap<>();
+    private final Counter etagHits;
+    private final Counter etagMisses;
+
+    public RegistryFetchCacheFilter(PeerAwareInstanceRegistry registry, EurekaServerConfig serverConfig,
+                                    MeterRegistry meterRegistry) {
+        this.registry = registry;
+        this.serverConfig = serverConfig;
+        this.meterRegistry = meterRegistry;
+        this.etagHits = Counter.builder("eureka.registry.payload.cache").tag("result", "hit").register(meterRegistry);
+        this.etagMisses = Counter.builder("eureka.registry.payload.cache").tag("result", "miss").register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!"GET".equals(request.getMethod()) || request.getParameter("regions") != null) {
+            return true;
+        }
+        String type = fetchType(request);
+        return type == null || ("delta".equals(type) && serverConfig.shouldDisableDelta());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        // 기동 직후 등 레지스트리 접근이 허용되지 않는 상태는 기존 리소스가 403으로 처리
+        if (!registry.shouldAllowAccess(false)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String type = fetchType(request);
+        boolean json = isJson(request);
+        Key key = new Key(Key.EntityType.Application,
+                "delta".equals(type) ? ResponseCacheImpl.ALL_APPS_DELTA : ResponseCacheImpl.ALL_APPS,
+                json ? Key.KeyType.JSON : Key.KeyType.XML,
+                Version.V2,
+                EurekaAccept.fromString(request.getHeader(EurekaAccept.HTTP_X_EUREKA_ACCEPT)));
+
+        byte[] payload = registry.getResponseCache().getGZIP(key);
+        if (payload == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        String etag = etagFor(key, payload);
+        payloadSize(type).set(payload.length);
+        response.setHeader(HttpHeaders.ETAG, etag);
+
+        if (etag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            countRequest(type, "not_modified");
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null || !acceptEncoding.contains("gzip")) {
+            countRequest(type, "passthrough");
+            chain.doFilter(request, response);
+            return;
+        }
+
+        countRequest(type, "gzip");
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(json ? MediaType.APPLICATION_JSON_VALUE : MediaType.APPLICATION_XML_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        response.setContentLength(payload.length);
+        response.getOutputStream().write(payload);
+    }
+
+    // ResponseCache는 내용이 바뀔 때만 새 byte[]를 만들므로 동일 인스턴스면 기존 ETag 재사용
+    private String etagFor(Key key, byte[] payload) {
+        CachedPayload cached = etags.get(key);
+        if (cached != null && cached.payload() == payload) {
+            etagHits.increment();
+            return cached.etag();
+        }
+        etagMisses.increment();
+        String etag = "\"" + DigestUtils.md5DigestAsHex(payload) + "\"";
+        etags.put(key, new CachedPayload(payload, etag));
+        return etag;
+    }
+
+    private AtomicLong payloadSize(String type) {
+        return payloadSizes.computeIfAbsent(type, t -> meterRegistry.gauge("eureka.registry.payload.bytes",
+                Tags.of("type", t, "encoding", "gzip"), new AtomicLong()));
+    }
+
+    private void countRequest(String type, String result) {
+        meterRegistry.counter("eureka.registry.fetch.requests", "type", type, "result", result).increment();
+    }
+
+    private static String fetchType(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.equals(APPS_PATH) || path.equals(APPS_PATH + "/")) {
+            return "full";
+        }
+        if (path.equals(DELTA_PATH) || path.equals(DELTA_PATH + "/")) {
+            return "delta";
+        }
+        return null;
+    }
+
+    // ApplicationsResource와 동일하게 Accept 헤더에 json이 없으면 XML로 응답
+    private static boolean isJson(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return accept != null && accept.contains("json");
+    }
+
+    private record CachedPayload(byte[] payload, String etag) {
+    }
+}
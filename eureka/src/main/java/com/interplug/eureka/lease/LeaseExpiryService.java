@@ -0,0 +1,119 @@
+package com.interplug.eureka.lease;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.LeaseInfo;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaInstanceCanceledEvent;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaInstanceRegisteredEvent;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaInstanceRenewedEvent;
+import org.springframework.context.event.EventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 등록 / 갱신 / 해제 이벤트로 리스 만료 시각을 timer wheel에 반영하고,
+ * 매 tick마다 만료된 인스턴스만 레지스트리에서 제거
+ * - 메트릭: eureka.lease.evictions, eureka.lease.eviction.lag, eureka.lease.tracked
+ */
+@Slf4j
+public class LeaseExpiryService {
+
+    private final PeerAwareInstanceRegistry registry;
+    private final LeaseExpiryWheel wheel;
+    private final Map<String, Long> leaseDurations = new ConcurrentHashMap<>();
+    private final Counter evictionCounter;
+    private final Timer evictionLag;
+    private final long tickMillis;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("lease-expiry").daemon().factory());
+
+    public LeaseExpiryService(PeerAwareInstanceRegistry registry, LeaseProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.registry = registry;
+        this.tickMillis = properties.getTick().toMillis();
+        this.wheel = new LeaseExpiryWheel(tickMillis, properties.getWheelSize(), System.currentTimeMillis());
+        this.evictionCounter = Counter.builder("eureka.lease.evictions").register(meterRegistry);
+        this.evictionLag = Timer.builder("eureka.lease.eviction.lag")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("eureka.lease.tracked", wheel, LeaseExpiryWheel::size).register(meterRegistry);
+    }
+
+    public void start() {
+        executor.scheduleAtFixedRate(this::evictExpired, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    @EventListener
+    public void onRegistered(EurekaInstanceRegisteredEvent event) {
+        InstanceInfo instance = event.getInstanceInfo();
+        String key = key(instance.getAppName(), instance.getId());
+        long durationMillis = TimeUnit.SECONDS.toMillis(event.getLeaseDuration());
+        leaseDurations.put(key, durationMillis);
+        wheel.schedule(key, System.currentTimeMillis() + durationMillis);
+    }
+
+    @EventListener
+    public void onRenewed(EurekaInstanceRenewedEvent event) {
+        String key = key(event.getAppName(), event.getServerId());
+        Long durationMillis = leaseDurations.get(key);
+        if (durationMillis == null) {
+            durationMillis = leaseDurationOf(event.getInstanceInfo());
+            leaseDurations.put(key, durationMillis);
+        }
+        wheel.schedule(key, System.currentTimeMillis() + durationMillis);
+    }
+
+    @EventListener
+    public void onCanceled(EurekaInstanceCanceledEvent event) {
+        String key = key(event.getAppName(), event.getServerId());
+        wheel.cancel(key);
+        leaseDurations.remove(key);
+    }
+
+    private void evictExpired() {
+        // self-preservation 모드로 만료가 중단된 동안에는 tick을 진행하지 않고 대기
+        if (!registry.isLeaseExpirationEnabled()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        List<LeaseExpiryWheel.Expired> expired = wheel.advance(now);
+        for (LeaseExpiryWheel.Expired lease : expired) {
+            int separator = lease.key().indexOf('/');
+            String appName = lease.key().substring(0, separator);
+            String id = lease.key().substring(separator + 1);
+            leaseDurations.remove(lease.key());
+            // replication=true: peer 노드는 각자 만료를 처리하므로 해제를 복제하지 않음
+            if (registry.cancel(appName, id, true)) {
+                evictionCounter.increment();
+                evictionLag.record(now - lease.deadline(), TimeUnit.MILLISECONDS);
+                log.info("Evicted expired lease {}/{} ({} ms after deadline)", appName, id, now - lease.deadline());
+            }
+        }
+    }
+
+    private static long leaseDurationOf(InstanceInfo instance) {
+        LeaseInfo leaseInfo = instance != null ? instance.getLeaseInfo() : null;
+        int seconds = leaseInfo != null && leaseInfo.getDurationInSecs() > 0
+                ? leaseInfo.getDurationInSecs()
+                : LeaseInfo.DEFAULT_LEASE_DURATION;
+        return TimeUnit.SECONDS.toMillis(seconds);
+    }
+
+    private static String key(String appName, String id) {
+        return appName + "/" + id;
+    }
+}
@@ -0,0 +1,133 @@
+package com.interplug.eureka.lease;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 리스 만료 시각을 tick 단위 버킷으로 관리하는 hashed timer wheel
+ * - 갱신(renew)은 만료 시각만 바꾸고 버킷은 옮기지 않음 (O(1))
+ * - tick 처리 시 해당 버킷의 항목만 확인하여 만료된 항목은 반환하고, 갱신된 항목은 새 만료 시각의 버킷으로 이동
+ * - 전체 리스를 주기적으로 스캔하지 않으므로 tick당 비용은 해당 버킷 크기(만료 + 리스 주기당 1회 재배치)에 비례
+ */
+public class LeaseExpiryWheel {
+
+    private final long tickMillis;
+    private final int mask;
+    private final Queue<Entry>[] buckets;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private volatile long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public LeaseExpiryWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a power of two: " + wheelSize);
+        }
+        this.tickMillis = tickMillis;
+        this.mask = wheelSize - 1;
+        this.buckets = new Queue[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * 리스 등록 또는 만료 시각 갱신
+     */
+    public void schedule(String key, long deadlineMillis) {
+        entries.compute(key, (k, entry) -> {
+            if (entry == null) {
+                entry = new Entry(k);
+                entry.deadline = deadlineMillis;
+                place(entry);
+                return entry;
+            }
+            long previousTick = entry.scheduledTick;
+            entry.deadline = deadlineMillis;
+            // 더 이른 시각으로 당겨진 경우에만 버킷 재배치 (이전 버킷의 항목은 처리 시 무시됨)
+            if (tickOf(deadlineMillis) < previousTick) {
+                place(entry);
+            }
+            return entry;
+        });
+    }
+
+    public void cancel(String key) {
+        entries.remove(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * nowMillis 이전에 끝난 tick을 모두 처리하고 만료된 리스를 반환
+     */
+    public List<Expired> advance(long nowMillis) {
+        List<Expired> expired = new ArrayList<>();
+        while ((currentTick + 1) * tickMillis <= nowMillis) {
+            processTick(currentTick, nowMillis, expired);
+            currentTick++;
+        }
+        return expired;
+    }
+
+    private void processTick(long tick, long nowMillis, List<Expired> expired) {
+        Queue<Entry> bucket = buckets[(int) (tick & mask)];
+        // 처리 중 같은 버킷에 다시 들어오는 항목(다음 바퀴)은 이번 tick에서 보지 않음
+        for (int remaining = bucket.size(); remaining > 0; remaining--) {
+            Entry entry = bucket.poll();
+            if (entry == null) {
+                break;
+            }
+            if (entry.scheduledTick > tick) {
+                bucket.add(entry);  // 다음 바퀴 대상
+            } else if (entry.scheduledTick == tick) {
+                expireOrReschedule(entry, nowMillis, expired);
+            }
+            // scheduledTick < tick: 더 이른 버킷으로 옮겨진 이전 위치의 항목
+        }
+    }
+
+    private void expireOrReschedule(Entry entry, long nowMillis, List<Expired> expired) {
+        entries.computeIfPresent(entry.key, (k, current) -> {
+            if (current != entry) {
+                return current;  // 취소 후 다시 등록된 리스
+            }
+            if (entry.deadline <= nowMillis) {
+                expired.add(new Expired(entry.key, entry.deadline));
+                return null;
+            }
+            place(entry);
+            return entry;
+        });
+    }
+
+    private void place(Entry entry) {
+        long tick = Math.max(tickOf(entry.deadline), currentTick);
+        entry.scheduledTick = tick;
+        buckets[(int) (tick & mask)].add(entry);
+    }
+
+    private long tickOf(long millis) {
+        return millis / tickMillis;
+    }
+
+    public record Expired(String key, long deadline) {
+    }
+
+    private static final class Entry {
+
+        private final String key;
+        private volatile long deadline;
+        private volatile long scheduledTick;
+
+        private Entry(String key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.interplug.eureka.lease;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * timer wheel 기반 리스 만료 설정 (eureka.lease-wheel.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "eureka.lease-wheel")
+public class LeaseProperties {
+
+    /** timer wheel 기반 만료 처리 사용 여부 */
+    private boolean enabled = true;
+
+    /** tick 간격 (만료 처리 지연의 상한) */
+    private Duration tick = Duration.ofSeconds(1);
+
+    /** 버킷 수 (2의 거듭제곱, tick * wheelSize 가 최대 리스 시간보다 크면 재배치가 줄어듦) */
+    private int wheelSize = 512;
+}
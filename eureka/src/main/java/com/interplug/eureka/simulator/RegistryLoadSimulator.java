@@ -0,0 +1,215 @@
+package com.interplug.eureka.simulator;
+
+import com.netflix.appinfo.DataCenterInfo;
+import com.netflix.appinfo.EurekaAccept;
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.LeaseInfo;
+import com.netflix.appinfo.MyDataCenterInfo;
+import com.netflix.eureka.Version;
+import com.netflix.eureka.registry.Key;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import com.netflix.eureka.registry.ResponseCacheImpl;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프로세스 내부에서 가상 인스턴스를 대량 등록하고 heartbeat(renew) / delta fetch 를
+ * 실제 클라이언트와 같은 주기로 발생시켜 레지스트리 처리 비용을 측정
+ * - renew / fetch 지연 시간 백분위수 (eureka.simulator.renew.latency, eureka.simulator.fetch.latency)
+ * - 프로세스 CPU 사용률, GC 횟수 / 시간
+ */
+@Slf4j
+public class RegistryLoadSimulator {
+
+    private static final String APP_NAME_PREFIX = "SIM-APP-";
+    private static final double[] PERCENTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final String[] PERCENTILE_LABELS = {"p50", "p90", "p99", "p99.9"};
+
+    private final PeerAwareInstanceRegistry registry;
+    private final SimulatorProperties properties;
+    private final Timer registerTimer;
+    private final Timer renewTimer;
+    private final Timer fetchTimer;
+    private final Counter renewFailures;
+    private final List<InstanceInfo> instances = new ArrayList<>();
+    private final ScheduledExecutorService executor;
+    private final Key deltaKey = new Key(Key.EntityType.Application, ResponseCacheImpl.ALL_APPS_DELTA,
+            Key.KeyType.JSON, Version.V2, EurekaAccept.full);
+
+    private long lastCpuTime;
+    private long lastWallTime;
+    private long lastGcCount;
+    private long lastGcTime;
+
+    public RegistryLoadSimulator(PeerAwareInstanceRegistry registry, SimulatorProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.registry = registry;
+        this.properties = properties;
+        this.registerTimer = latencyTimer("eureka.simulator.register.latency", meterRegistry);
+        this.renewTimer = latencyTimer("eureka.simulator.renew.latency", meterRegistry);
+        this.fetchTimer = latencyTimer("eureka.simulator.fetch.latency", meterRegistry);
+        this.renewFailures = Counter.builder("eureka.simulator.renew.failures").register(meterRegistry);
+        this.executor = Executors.newScheduledThreadPool(properties.getWorkerThreads(),
+                Thread.ofPlatform().name("registry-simulator-", 0).daemon().factory());
+    }
+
+    public void start() {
+        log.info("Starting registry load simulation: {} instances / {} applications, renew every {}, duration {}",
+                properties.getInstances(), properties.getApplications(),
+                properties.getRenewalInterval(), properties.getDuration());
+        resetResourceBaseline();
+
+        registerInstances();
+        scheduleRenewals();
+        scheduleDeltaFetches();
+
+        long reportMillis = properties.getReportInterval().toMillis();
+        executor.scheduleAtFixedRate(() -> report("interval"), reportMillis, reportMillis, TimeUnit.MILLISECONDS);
+        executor.schedule(this::finish, properties.getDuration().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    private void registerInstances() {
+        int leaseSeconds = (int) properties.getLeaseDuration().toSeconds();
+        for (int i = 0; i < properties.getInstances(); i++) {
+            InstanceInfo instance = syntheticInstance(i);
+            instances.add(instance);
+            registerTimer.record(() -> registry.register(instance, leaseSeconds, isReplication()));
+        }
+        log.info("Registered {} synthetic instances (mean {} us)", instances.size(),
+                String.format("%.1f", registerTimer.mean(TimeUnit.MICROSECONDS)));
+    }
+
+    // 인스턴스마다 임의의 초기 지연을 두어 renew 요청이 주기 전체에 고르게 분산되도록 함
+    private void scheduleRenewals() {
+        long intervalMillis = properties.getRenewalInterval().toMillis();
+        for (InstanceInfo instance : instances) {
+            long initialDelay = ThreadLocalRandom.current().nextLong(intervalMillis);
+            executor.scheduleAtFixedRate(() -> renew(instance), initialDelay, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void scheduleDeltaFetches() {
+        int fetchClients = properties.getFetchClients() > 0 ? properties.getFetchClients() : properties.getInstances();
+        long intervalMillis = properties.getFetchInterval().toMillis();
+        for (int i = 0; i < fetchClients; i++) {
+            long initialDelay = ThreadLocalRandom.current().nextLong(intervalMillis);
+            executor.scheduleAtFixedRate(this::fetchDelta, initialDelay, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void renew(InstanceInfo instance) {
+        long start = System.nanoTime();
+        boolean renewed = registry.renew(instance.getAppName(), instance.getId(), isReplication());
+        renewTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (!renewed) {
+            renewFailures.increment();
+        }
+    }
+
+    private void fetchDelta() {
+        fetchTimer.record(() -> registry.getResponseCache().getGZIP(deltaKey));
+    }
+
+    private void finish() {
+        report("final");
+        instances.forEach(instance -> registry.cancel(instance.getAppName(), instance.getId(), isReplication()));
+        log.info("Registry load simulation finished, {} synthetic instances cancelled", instances.size());
+        executor.shutdown();
+    }
+
+    private void report(String phase) {
+        long now = System.nanoTime();
+        long cpuTime = processCpuTime();
+        long gcCount = 0;
+        long gcTime = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gcCount += Math.max(gc.getCollectionCount(), 0);
+            gcTime += Math.max(gc.getCollectionTime(), 0);
+        }
+        double cpuPercent = 100.0 * (cpuTime - lastCpuTime)
+                / ((double) (now - lastWallTime) * Runtime.getRuntime().availableProcessors());
+
+        log.info("[simulator:{}] renews={} ({} failed) renew(us) {} | fetches={} fetch(us) {} | cpu={}% gc={} ({} ms)",
+                phase, renewTimer.count(), (long) renewFailures.count(), percentiles(renewTimer),
+                fetchTimer.count(), percentiles(fetchTimer),
+                String.format("%.1f", cpuPercent), gcCount - lastGcCount, gcTime - lastGcTime);
+
+        lastWallTime = now;
+        lastCpuTime = cpuTime;
+        lastGcCount = gcCount;
+        lastGcTime = gcTime;
+    }
+
+    private void resetResourceBaseline() {
+        lastWallTime = System.nanoTime();
+        lastCpuTime = processCpuTime();
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            lastGcCount += Math.max(gc.getCollectionCount(), 0);
+            lastGcTime += Math.max(gc.getCollectionTime(), 0);
+        }
+    }
+
+    // replication 요청으로 처리하면 peer 복제 없이 로컬 레지스트리 경로만 측정
+    private boolean isReplication() {
+        return !properties.isReplicateToPeers();
+    }
+
+    private InstanceInfo syntheticInstance(int index) {
+        String appName = APP_NAME_PREFIX + (index % properties.getApplications());
+        String ip = "10.%d.%d.%d".formatted((index >> 16) & 0xFF, (index >> 8) & 0xFF, index & 0xFF);
+        return InstanceInfo.Builder.newBuilder()
+                .setAppName(appName)
+                .setInstanceId(appName.toLowerCase() + ":" + index)
+                .setHostName("sim-" + index + ".local")
+                .setIPAddr(ip)
+                .setPort(8080)
+                .setVIPAddress(appName.toLowerCase())
+                .setStatus(InstanceInfo.InstanceStatus.UP)
+                .setDataCenterInfo(new MyDataCenterInfo(DataCenterInfo.Name.MyOwn))
+                .setLeaseInfo(LeaseInfo.Builder.newBuilder()
+                        .setRenewalIntervalInSecs((int) properties.getRenewalInterval().toSeconds())
+                        .setDurationInSecs((int) properties.getLeaseDuration().toSeconds())
+                        .build())
+                .build();
+    }
+
+    private static Timer latencyTimer(String name, MeterRegistry meterRegistry) {
+        return Timer.builder(name)
+                .publishPercentiles(PERCENTILES)
+                .register(meterRegistry);
+    }
+
+    private static String percentiles(Timer timer) {
+        StringBuilder sb = new StringBuilder();
+        ValueAtPercentile[] values = timer.takeSnapshot().percentileValues();
+        for (int i = 0; i < values.length; i++) {
+            sb.append(String.format("%s=%.1f ", PERCENTILE_LABELS[i], values[i].value(TimeUnit.MICROSECONDS)));
+        }
+        return sb.toString().trim();
+    }
+
+    private static long processCpuTime() {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean sunOs) {
+            return sunOs.getProcessCpuTime();
+        }
+        return 0L;
+    }
+}
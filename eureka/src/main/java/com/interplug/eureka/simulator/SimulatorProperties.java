@@ -0,0 +1,50 @@
+package com.interplug.eureka.simulator;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 레지스트리 부하 시뮬레이터 설정 (eureka.simulator.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "eureka.simulator")
+public class SimulatorProperties {
+
+    /** 시뮬레이터 실행 여부 */
+    private boolean enabled = false;
+
+    /** 등록할 가상 인스턴스 수 */
+    private int instances = 5_000;
+
+    /** 인스턴스를 나눠 담을 애플리케이션 수 */
+    private int applications = 50;
+
+    /** 인스턴스별 heartbeat 주기 (eureka.instance.lease-renewal-interval-in-seconds 기본값과 동일) */
+    private Duration renewalInterval = Duration.ofSeconds(30);
+
+    /** 리스 만료 시간 (eureka.instance.lease-expiration-duration-in-seconds 기본값과 동일) */
+    private Duration leaseDuration = Duration.ofSeconds(90);
+
+    /** delta fetch를 수행하는 가상 클라이언트 수 (0이면 instances와 동일) */
+    private int fetchClients = 0;
+
+    /** 클라이언트별 delta fetch 주기 (eureka.client.registry-fetch-interval-seconds 기본값과 동일) */
+    private Duration fetchInterval = Duration.ofSeconds(30);
+
+    /**
+     * 실제 클라이언트 요청처럼 peer 복제까지 포함할지 여부
+     * (단일 노드에서 defaultZone이 자기 자신을 가리키면 자기 자신에게 HTTP 복제가 발생함)
+     */
+    private boolean replicateToPeers = false;
+
+    /** renew / fetch 를 수행하는 워커 스레드 수 */
+    private int workerThreads = 4;
+
+    /** 시뮬레이션 실행 시간 */
+    private Duration duration = Duration.ofMinutes(5);
+
+    /** 중간 리포트 출력 주기 */
+    private Duration reportInterval = Duration.ofSeconds(30);
+}
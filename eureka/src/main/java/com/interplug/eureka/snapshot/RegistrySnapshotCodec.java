@@ -0,0 +1,152 @@
+package com.interplug.eureka.snapshot;
+
+import com.netflix.appinfo.DataCenterInfo;
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.LeaseInfo;
+import com.netflix.appinfo.MyDataCenterInfo;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 레지스트리 스냅샷 바이너리 포맷
+ * <pre>
+ * magic(int) | version(short) | createdAt(long) | count(int) | instance * count
+ * </pre>
+ * 인스턴스는 필드 순서가 고정된 레코드이며, null 허용 문자열은 1바이트 플래그 뒤에 UTF로 기록
+ * 잘리거나 손상된 파일은 모두 IOException 으로 거부 (개수 / 상태 값 검증, 개수만큼 미리 할당하지 않음)
+ */
+public final class RegistrySnapshotCodec {
+
+    private static final int MAGIC = 0x45524B53;  // "ERKS"
+    private static final short VERSION = 1;
+    private static final InstanceInfo.InstanceStatus[] STATUSES = InstanceInfo.InstanceStatus.values();
+
+    private RegistrySnapshotCodec() {
+    }
+
+    public static void write(DataOutputStream out, long createdAt, List<InstanceInfo> instances) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeLong(createdAt);
+        out.writeInt(instances.size());
+        for (InstanceInfo instance : instances) {
+            writeInstance(out, instance);
+        }
+    }
+
+    public static Snapshot read(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a registry snapshot file");
+        }
+        short version = in.readShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported registry snapshot version: " + version);
+        }
+        long createdAt = in.readLong();
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("Corrupt registry snapshot: instance count " + count);
+        }
+        List<InstanceInfo> instances = new ArrayList<>(Math.min(count, 1024));
+        for (int i = 0; i < count; i++) {
+            instances.add(readInstance(in));
+        }
+        return new Snapshot(createdAt, instances);
+    }
+
+    private static void writeInstance(DataOutputStream out, InstanceInfo instance) throws IOException {
+        out.writeUTF(instance.getAppName());
+        out.writeUTF(instance.getId());
+        writeNullable(out, instance.getAppGroupName());
+        writeNullable(out, instance.getHostName());
+        writeNullable(out, instance.getIPAddr());
+        writeNullable(out, instance.getVIPAddress());
+        writeNullable(out, instance.getSecureVipAddress());
+        out.writeInt(instance.getPort());
+        out.writeBoolean(instance.isPortEnabled(InstanceInfo.PortType.UNSECURE));
+        out.writeInt(instance.getSecurePort());
+        out.writeBoolean(instance.isPortEnabled(InstanceInfo.PortType.SECURE));
+        out.writeByte(instance.getStatus().ordinal());
+        writeNullable(out, instance.getHomePageUrl());
+        writeNullable(out, instance.getStatusPageUrl());
+        writeNullable(out, instance.getHealthCheckUrl());
+        writeNullable(out, instance.getSecureHealthCheckUrl());
+        out.writeLong(instance.getLastDirtyTimestamp());
+        out.writeInt(instance.getLeaseInfo() != null
+                ? instance.getLeaseInfo().getRenewalIntervalInSecs()
+                : LeaseInfo.DEFAULT_LEASE_RENEWAL_INTERVAL);
+
+        Map<String, String> metadata = instance.getMetadata();
+        if (metadata.size() > 0xFFFF) {
+            throw new IOException("Too many metadata entries for " + instance.getId() + ": " + metadata.size());
+        }
+        out.writeShort(metadata.size());
+        for (Map.Entry<String, String> entry : metadata.entrySet()) {
+            out.writeUTF(entry.getKey());
+            writeNullable(out, entry.getValue());
+        }
+    }
+
+    private static InstanceInfo readInstance(DataInputStream in) throws IOException {
+        InstanceInfo.Builder builder = InstanceInfo.Builder.newBuilder()
+                .setAppName(in.readUTF())
+                .setInstanceId(in.readUTF())
+                .setAppGroupNameForDeser(readNullable(in))
+                .setHostName(readNullable(in))
+                .setIPAddr(readNullable(in))
+                .setVIPAddressDeser(readNullable(in))
+                .setSecureVIPAddressDeser(readNullable(in))
+                .setPort(in.readInt())
+                .enablePort(InstanceInfo.PortType.UNSECURE, in.readBoolean())
+                .setSecurePort(in.readInt())
+                .enablePort(InstanceInfo.PortType.SECURE, in.readBoolean())
+                .setStatus(readStatus(in))
+                .setHomePageUrlForDeser(readNullable(in))
+                .setStatusPageUrlForDeser(readNullable(in))
+                .setHealthCheckUrlsForDeser(readNullable(in), readNullable(in))
+                .setLastDirtyTimestamp(in.readLong())
+                .setDataCenterInfo(new MyDataCenterInfo(DataCenterInfo.Name.MyOwn));
+        int renewalInterval = in.readInt();
+
+        int metadataSize = in.readUnsignedShort();
+        Map<String, String> metadata = new HashMap<>(metadataSize * 2);
+        for (int i = 0; i < metadataSize; i++) {
+            metadata.put(in.readUTF(), readNullable(in));
+        }
+
+        return builder
+                .setMetadata(metadata)
+                .setLeaseInfo(LeaseInfo.Builder.newBuilder()
+                        .setRenewalIntervalInSecs(renewalInterval)
+                        .build())
+                .build();
+    }
+
+    private static InstanceInfo.InstanceStatus readStatus(DataInputStream in) throws IOException {
+        int ordinal = in.readUnsignedByte();
+        if (ordinal >= STATUSES.length) {
+            throw new IOException("Corrupt registry snapshot: instance status " + ordinal);
+        }
+        return STATUSES[ordinal];
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    public record Snapshot(long createdAt, List<InstanceInfo> instances) {
+    }
+}
@@ -0,0 +1,122 @@
+package com.interplug.eureka.snapshot;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.discovery.shared.Application;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 레지스트리 스냅샷 저장 / 복원
+ * - 주기적으로 로컬 레지스트리를 바이너리 파일로 저장 (임시 파일 작성 후 atomic move)
+ * - 기동 시 스냅샷의 인스턴스를 임시 리스로 등록하여 클라이언트 heartbeat 전에도 조회 가능하게 함
+ */
+@Slf4j
+public class RegistrySnapshotService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final PeerAwareInstanceRegistry registry;
+    private final SnapshotProperties properties;
+    private final Path snapshotPath;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("registry-snapshot").daemon().factory());
+    private volatile boolean started;
+
+    public RegistrySnapshotService(PeerAwareInstanceRegistry registry, SnapshotProperties properties) {
+        this.registry = registry;
+        this.properties = properties;
+        this.snapshotPath = Path.of(properties.getPath());
+    }
+
+    /**
+     * 스냅샷 복원 후 주기적 저장 시작
+     */
+    public void start() {
+        restore();
+        started = true;
+        long intervalMillis = properties.getInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::save, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        executor.shutdownNow();
+        // 복원 전에 종료되는 경우 기존 스냅샷을 빈 레지스트리로 덮어쓰지 않도록 함
+        if (started) {
+            save();
+        }
+    }
+
+    public void save() {
+        List<InstanceInfo> instances = new ArrayList<>();
+        for (Application application : registry.getApplicationsFromLocalRegionOnly().getRegisteredApplications()) {
+            instances.addAll(application.getInstancesAsIsFromEureka());
+        }
+
+        long start = System.nanoTime();
+        try {
+            Files.createDirectories(snapshotPath.toAbsolutePath().getParent());
+            Path tempPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tempPath), BUFFER_SIZE))) {
+                RegistrySnapshotCodec.write(out, System.currentTimeMillis(), instances);
+            }
+            Files.move(tempPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("Saved registry snapshot: {} instances in {} ms", instances.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (IOException e) {
+            log.error("Error saving registry snapshot to {}: {}", snapshotPath, e.getMessage());
+        }
+    }
+
+    private void restore() {
+        if (!Files.exists(snapshotPath)) {
+            log.info("No registry snapshot found at {}", snapshotPath);
+            return;
+        }
+
+        long start = System.nanoTime();
+        RegistrySnapshotCodec.Snapshot snapshot;
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(snapshotPath), BUFFER_SIZE))) {
+            snapshot = RegistrySnapshotCodec.read(in);
+        } catch (IOException | RuntimeException e) {
+            // 손상된 스냅샷은 무시하고 빈 레지스트리로 기동 (다음 저장 주기에 덮어씀)
+            log.error("Error reading registry snapshot {}: {}", snapshotPath, e.getMessage());
+            return;
+        }
+
+        long decodeMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        long age = System.currentTimeMillis() - snapshot.createdAt();
+        if (age > properties.getMaxAge().toMillis()) {
+            log.info("Ignoring registry snapshot older than {} (age {} s)", properties.getMaxAge(),
+                    TimeUnit.MILLISECONDS.toSeconds(age));
+            return;
+        }
+
+        // replication 요청으로 등록하여 peer 복제 없이 로컬 레지스트리에만 반영
+        int leaseSeconds = (int) properties.getProvisionalLease().toSeconds();
+        int restored = 0;
+        for (InstanceInfo instance : snapshot.instances()) {
+            if (registry.getInstanceByAppAndId(instance.getAppName(), instance.getId(), false) == null) {
+                registry.register(instance, leaseSeconds, true);
+                restored++;
+            }
+        }
+        log.info("Restored {} instances from registry snapshot (decode {} ms, total {} ms, provisional lease {} s)",
+                restored, decodeMillis, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), leaseSeconds);
+    }
+}
@@ -0,0 +1,32 @@
+package com.interplug.eureka.snapshot;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 레지스트리 스냅샷 설정 (eureka.snapshot.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "eureka.snapshot")
+public class SnapshotProperties {
+
+    /** 스냅샷 저장 / 복원 사용 여부 */
+    private boolean enabled = true;
+
+    /** 스냅샷 파일 경로 */
+    private String path = "./data/registry.snapshot";
+
+    /** 스냅샷 저장 주기 */
+    private Duration interval = Duration.ofSeconds(30);
+
+    /** 이보다 오래된 스냅샷은 복원하지 않음 */
+    private Duration maxAge = Duration.ofMinutes(10);
+
+    /**
+     * 복원된 인스턴스의 임시 리스 시간
+     * 이 시간 안에 실제 heartbeat가 오지 않으면 일반 리스 만료로 제거됨
+     */
+    private Duration provisionalLease = Duration.ofSeconds(90);
+}
@@ -0,0 +1,61 @@
+package com.interplug.eureka.stream;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.netflix.appinfo.InstanceInfo;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 레지스트리 변경 이벤트 (스트림 전송용 압축 표현)
+ * REMOVED 이벤트는 app / id 만 포함
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record RegistryChange(
+        long version,
+        Type type,
+        String app,
+        String id,
+        String host,
+        String ip,
+        Integer port,
+        Integer securePort,
+        String status,
+        Map<String, String> metadata) {
+
+    public enum Type {
+        ADDED, REMOVED
+    }
+
+    public static RegistryChange added(long version, InstanceInfo instance) {
+        return new RegistryChange(
+                version,
+                Type.ADDED,
+                instance.getAppName(),
+                instance.getId(),
+                instance.getHostName(),
+                instance.getIPAddr(),
+                instance.isPortEnabled(InstanceInfo.PortType.UNSECURE) ? instance.getPort() : null,
+                instance.isPortEnabled(InstanceInfo.PortType.SECURE) ? instance.getSecurePort() : null,
+                instance.getStatus().name(),
+                instance.getMetadata().isEmpty() ? null : Map.copyOf(instance.getMetadata()));
+    }
+
+    public static RegistryChange removed(long version, String app, String id) {
+        return new RegistryChange(version, Type.REMOVED, app, id, null, null, null, null, null, null);
+    }
+
+    public boolean sameInstance(RegistryChange other) {
+        return type == other.type
+                && Objects.equals(host, other.host)
+                && Objects.equals(ip, other.ip)
+                && Objects.equals(port, other.port)
+                && Objects.equals(securePort, other.securePort)
+                && Objects.equals(status, other.status)
+                && Objects.equals(metadata, other.metadata);
+    }
+
+    public String key() {
+        return app + "/" + id;
+    }
+}
@@ -0,0 +1,212 @@
+package com.interplug.eureka.stream;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.discovery.shared.Application;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaInstanceCanceledEvent;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaInstanceRegisteredEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 레지스트리 변경 피드
+ * - 등록 / 해제(만료 포함) 이벤트에 버전을 부여하여 구독자에게 SSE로 전송
+ * - 상태 override(OUT_OF_SERVICE 지정 / 해제)는 이벤트가 없으므로 reconcileInterval 마다 레지스트리와 대조해 ADDED 로 전송
+ * - 최근 변경 이력을 보관하여 Last-Event-ID 재접속 시 누락분만 전송
+ * - 이력 범위를 벗어났거나 서버가 재기동된 경우 현재 전체 상태(snapshot)부터 다시 전송
+ * - 이벤트 ID 형식: {epoch}-{version}
+ */
+@Slf4j
+public class RegistryChangeFeed {
+
+    public static final String SNAPSHOT_EVENT = "snapshot";
+    public static final String CHANGE_EVENT = "change";
+
+    private final PeerAwareInstanceRegistry registry;
+    private final StreamProperties properties;
+    // 서버 재기동 시 버전이 초기화되므로 이벤트 ID에 기동 시각(epoch)을 포함하여 구분
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Object lock = new Object();
+    private final Map<String, RegistryChange> instances = new LinkedHashMap<>();
+    private final ArrayDeque<RegistryChange> history = new ArrayDeque<>();
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    // 전송은 단일 스레드에서 순서대로 수행 (구독 시 초기 전송과 이후 변경 전송의 순서 보장)
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("registry-stream").daemon().factory());
+    private long version;
+
+    public RegistryChangeFeed(PeerAwareInstanceRegistry registry, StreamProperties properties) {
+        this.registry = registry;
+        this.properties = properties;
+        long heartbeatMillis = properties.getHeartbeatInterval().toMillis();
+        long reconcileMillis = properties.getReconcileInterval().toMillis();
+        executor.scheduleAtFixedRate(this::heartbeat, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+        executor.scheduleWithFixedDelay(this::reconcile, reconcileMillis, reconcileMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @EventListener
+    public void onRegistered(EurekaInstanceRegisteredEvent event) {
+        synchronized (lock) {
+            RegistryChange change = RegistryChange.added(version + 1, event.getInstanceInfo());
+            // 동일 내용의 재등록(replication, 중복 이벤트)은 전송하지 않음
+            RegistryChange current = instances.get(change.key());
+            if (current == null || !current.sameInstance(change)) {
+                version++;
+                publish(change);
+            }
+        }
+    }
+
+    @EventListener
+    public void onCanceled(EurekaInstanceCanceledEvent event) {
+        synchronized (lock) {
+            if (instances.containsKey(event.getAppName() + "/" + event.getServerId())) {
+                publish(RegistryChange.removed(++version, event.getAppName(), event.getServerId()));
+            }
+        }
+    }
+
+    /**
+     * 피드에 있는 인스턴스 중 레지스트리의 상태 / 주소가 달라진 인스턴스를 ADDED 로 다시 전송
+     * 등록 / 해제는 이벤트로 반영하므로 대조하지 않음 (이벤트가 레지스트리 반영보다 먼저 발행되는 틈에 되돌리지 않도록)
+     */
+    void reconcile() {
+        try {
+            List<InstanceInfo> registered = new ArrayList<>();
+            for (Application application : registry.getApplicationsFromLocalRegionOnly().getRegisteredApplications()) {
+                registered.addAll(application.getInstancesAsIsFromEureka());
+            }
+            synchronized (lock) {
+                for (InstanceInfo instance : registered) {
+                    RegistryChange latest = RegistryChange.added(version + 1, instance);
+                    RegistryChange current = instances.get(latest.key());
+                    if (current != null && !current.sameInstance(latest)) {
+                        log.info("Registry status of {} changed to {} without an event, publishing", latest.key(),
+                                latest.status());
+                        version++;
+                        publish(latest);
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Registry stream reconcile failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 스트림 구독
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 ID (없으면 전체 상태부터 전송)
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(properties.getConnectionTimeout().toMillis());
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+
+        synchronized (lock) {
+            List<RegistryChange> missed = changesSince(parseVersion(lastEventId));
+            if (missed != null) {
+                executor.execute(() -> missed.forEach(change -> send(emitter, changeEvent(change))));
+            } else {
+                RegistrySnapshot snapshot = new RegistrySnapshot(version, new ArrayList<>(instances.values()));
+                executor.execute(() -> send(emitter, SseEmitter.event()
+                        .id(eventId(snapshot.version()))
+                        .name(SNAPSHOT_EVENT)
+                        .data(snapshot, MediaType.APPLICATION_JSON)));
+            }
+            emitters.add(emitter);
+        }
+        return emitter;
+    }
+
+    public void stop() {
+        executor.shutdownNow();
+        emitters.forEach(SseEmitter::complete);
+    }
+
+    private void publish(RegistryChange change) {
+        if (change.type() == RegistryChange.Type.ADDED) {
+            instances.put(change.key(), change);
+        } else {
+            instances.remove(change.key());
+        }
+        history.addLast(change);
+        if (history.size() > properties.getHistorySize()) {
+            history.removeFirst();
+        }
+        executor.execute(() -> emitters.forEach(emitter -> send(emitter, changeEvent(change))));
+    }
+
+    // lastEventId 이후 변경분 (이력 범위를 벗어났거나 알 수 없는 버전이면 null)
+    private List<RegistryChange> changesSince(Long lastEventId) {
+        if (lastEventId == null || lastEventId > version) {
+            return null;
+        }
+        if (lastEventId == version) {
+            return List.of();
+        }
+        if (history.isEmpty() || history.peekFirst().version() > lastEventId + 1) {
+            return null;
+        }
+        List<RegistryChange> missed = new ArrayList<>();
+        for (RegistryChange change : history) {
+            if (change.version() > lastEventId) {
+                missed.add(change);
+            }
+        }
+        return missed;
+    }
+
+    // 다른 epoch(재기동 이전 서버)의 이벤트 ID는 알 수 없는 버전으로 취급
+    private Long parseVersion(String lastEventId) {
+        if (lastEventId == null || !lastEventId.startsWith(epoch + "-")) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(epoch.length() + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private String eventId(long eventVersion) {
+        return epoch + "-" + eventVersion;
+    }
+
+    private void heartbeat() {
+        emitters.forEach(emitter -> send(emitter, SseEmitter.event().comment("keep-alive")));
+    }
+
+    private void send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping registry stream subscriber: {}", e.getMessage());
+            emitters.remove(emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private SseEmitter.SseEventBuilder changeEvent(RegistryChange change) {
+        return SseEmitter.event()
+                .id(eventId(change.version()))
+                .name(CHANGE_EVENT)
+                .data(change, MediaType.APPLICATION_JSON);
+    }
+
+    public record RegistrySnapshot(long version, List<RegistryChange> instances) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.interplug.eureka.stream;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 레지스트리 변경 스트림 설정 (eureka.stream.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "eureka.stream")
+public class StreamProperties {
+
+    /** 변경 스트림 사용 여부 */
+    private boolean enabled = true;
+
+    /** 재접속 시 이어받기(Last-Event-ID)를 위해 보관하는 최근 변경 수 */
+    private int historySize = 10_000;
+
+    /**
+     * 레지스트리와 대조해 이벤트가 없는 상태 변경(관리자 OUT_OF_SERVICE override / 해제 등)을 반영하는 주기
+     */
+    private Duration reconcileInterval = Duration.ofSeconds(5);
+
+    /** keep-alive 코멘트 전송 주기 */
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    /** 스트림 연결 최대 유지 시간 (만료 시 클라이언트가 Last-Event-ID로 재접속) */
+    private Duration connectionTimeout = Duration.ofMinutes(30);
+}
@@ -0,0 +1,51 @@
+package com.interplug.eureka.lease;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LeaseExpiryWheelTests {
+
+    @Test
+    void expiresOnlyLeasesPastDeadline() {
+        LeaseExpiryWheel wheel = new LeaseExpiryWheel(1000, 8, 0);
+        wheel.schedule("APP/a", 2_500);
+        wheel.schedule("APP/b", 5_500);
+
+        assertThat(wheel.advance(2_000)).isEmpty();
+        assertThat(wheel.advance(3_000)).extracting(LeaseExpiryWheel.Expired::key).containsExactly("APP/a");
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    void renewedLeaseIsRescheduledInsteadOfExpired() {
+        LeaseExpiryWheel wheel = new LeaseExpiryWheel(1000, 8, 0);
+        wheel.schedule("APP/a", 2_500);
+        wheel.schedule("APP/a", 4_500);
+
+        assertThat(wheel.advance(3_000)).isEmpty();
+        assertThat(wheel.advance(5_000)).extracting(LeaseExpiryWheel.Expired::key).containsExactly("APP/a");
+    }
+
+    @Test
+    void deadlineBeyondOneRotationWaitsForLaterRound() {
+        LeaseExpiryWheel wheel = new LeaseExpiryWheel(1000, 4, 0);
+        wheel.schedule("APP/a", 9_500);
+
+        assertThat(wheel.advance(9_000)).isEmpty();
+        List<LeaseExpiryWheel.Expired> expired = wheel.advance(10_000);
+        assertThat(expired).extracting(LeaseExpiryWheel.Expired::deadline).containsExactly(9_500L);
+    }
+
+    @Test
+    void canceledLeaseIsNotReturned() {
+        LeaseExpiryWheel wheel = new LeaseExpiryWheel(1000, 8, 0);
+        wheel.schedule("APP/a", 1_500);
+        wheel.cancel("APP/a");
+
+        assertThat(wheel.advance(3_000)).isEmpty();
+        assertThat(wheel.size()).isZero();
+    }
+}
@@ -0,0 +1,139 @@
+package com.interplug.eureka.snapshot;
+
+import com.netflix.appinfo.DataCenterInfo;
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.LeaseInfo;
+import com.netflix.appinfo.MyDataCenterInfo;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RegistrySnapshotCodecTests {
+
+    @Test
+    void roundTripKeepsFieldsNullableValuesAndMetadata() throws IOException {
+        Map<String, String> metadata = new HashMap<>();
+        metadata.put("zone", "zone-a");
+        metadata.put("management.port", null);
+        InstanceInfo full = InstanceInfo.Builder.newBuilder()
+                .setAppName("TEST-SERVICE")
+                .setInstanceId("host-1:test-service:8080")
+                .setHostName("host-1")
+                .setIPAddr("10.0.0.1")
+                .setVIPAddressDeser("test-service")
+                .setPort(8080)
+                .enablePort(InstanceInfo.PortType.UNSECURE, true)
+                .setSecurePort(8443)
+                .enablePort(InstanceInfo.PortType.SECURE, false)
+                .setStatus(InstanceInfo.InstanceStatus.OUT_OF_SERVICE)
+                .setHomePageUrlForDeser("http://host-1:8080/")
+                .setStatusPageUrlForDeser("http://host-1:8080/actuator/info")
+                .setHealthCheckUrlsForDeser("http://host-1:8080/actuator/health", null)
+                .setLastDirtyTimestamp(1_700_000_000_000L)
+                .setDataCenterInfo(new MyDataCenterInfo(DataCenterInfo.Name.MyOwn))
+                .setLeaseInfo(LeaseInfo.Builder.newBuilder().setRenewalIntervalInSecs(10).build())
+                .setMetadata(metadata)
+                .build();
+        InstanceInfo minimal = InstanceInfo.Builder.newBuilder()
+                .setAppName("USER-SERVICE")
+                .setInstanceId("host-2:user-service:8081")
+                .setDataCenterInfo(new MyDataCenterInfo(DataCenterInfo.Name.MyOwn))
+                .build();
+
+        RegistrySnapshotCodec.Snapshot snapshot = read(write(42L, List.of(full, minimal)));
+
+        assertThat(snapshot.createdAt()).isEqualTo(42L);
+        assertThat(snapshot.instances()).hasSize(2);
+        InstanceInfo restored = snapshot.instances().get(0);
+        assertThat(restored.getAppName()).isEqualTo("TEST-SERVICE");
+        assertThat(restored.getId()).isEqualTo("host-1:test-service:8080");
+        assertThat(restored.getAppGroupName()).isNull();
+        assertThat(restored.getHostName()).isEqualTo("host-1");
+        assertThat(restored.getIPAddr()).isEqualTo("10.0.0.1");
+        assertThat(restored.getVIPAddress()).isEqualTo("test-service");
+        assertThat(restored.getSecureVipAddress()).isNull();
+        assertThat(restored.getPort()).isEqualTo(8080);
+        assertThat(restored.isPortEnabled(InstanceInfo.PortType.UNSECURE)).isTrue();
+        assertThat(restored.getSecurePort()).isEqualTo(8443);
+        assertThat(restored.isPortEnabled(InstanceInfo.PortType.SECURE)).isFalse();
+        assertThat(restored.getStatus()).isEqualTo(InstanceInfo.InstanceStatus.OUT_OF_SERVICE);
+        assertThat(restored.getHomePageUrl()).isEqualTo("http://host-1:8080/");
+        assertThat(restored.getStatusPageUrl()).isEqualTo("http://host-1:8080/actuator/info");
+        assertThat(restored.getHealthCheckUrl()).isEqualTo("http://host-1:8080/actuator/health");
+        assertThat(restored.getSecureHealthCheckUrl()).isNull();
+        assertThat(restored.getLastDirtyTimestamp()).isEqualTo(1_700_000_000_000L);
+        assertThat(restored.getLeaseInfo().getRenewalIntervalInSecs()).isEqualTo(10);
+        assertThat(restored.getMetadata()).isEqualTo(metadata);
+
+        InstanceInfo restoredMinimal = snapshot.instances().get(1);
+        assertThat(restoredMinimal.getId()).isEqualTo("host-2:user-service:8081");
+        assertThat(restoredMinimal.getHostName()).isNull();
+        assertThat(restoredMinimal.getMetadata()).isEmpty();
+        assertThat(restoredMinimal.getLeaseInfo().getRenewalIntervalInSecs())
+                .isEqualTo(LeaseInfo.DEFAULT_LEASE_RENEWAL_INTERVAL);
+    }
+
+    @Test
+    void truncatedSnapshotIsRejectedAtEveryLength() throws IOException {
+        byte[] bytes = write(1L, List.of(InstanceInfo.Builder.newBuilder()
+                .setAppName("TEST-SERVICE")
+                .setInstanceId("host-1:test-service:8080")
+                .setHostName("host-1")
+                .setDataCenterInfo(new MyDataCenterInfo(DataCenterInfo.Name.MyOwn))
+                .setMetadata(new HashMap<>(Map.of("zone", "zone-a")))
+                .build()));
+
+        for (int length = 0; length < bytes.length; length++) {
+            byte[] truncated = Arrays.copyOf(bytes, length);
+            assertThatThrownBy(() -> read(truncated)).as("length %d", length).isInstanceOf(IOException.class);
+        }
+    }
+
+    @Test
+    void badMagicAndUnsupportedVersionAreRejected() throws IOException {
+        byte[] badMagic = write(1L, List.of());
+        badMagic[0] = 'X';
+        assertThatThrownBy(() -> read(badMagic)).isInstanceOf(IOException.class)
+                .hasMessageContaining("Not a registry snapshot");
+
+        byte[] badVersion = write(1L, List.of());
+        ByteBuffer.wrap(badVersion).putShort(4, (short) 99);
+        assertThatThrownBy(() -> read(badVersion)).isInstanceOf(IOException.class)
+                .hasMessageContaining("version");
+    }
+
+    @Test
+    void negativeInstanceCountIsRejected() throws IOException {
+        byte[] bytes = write(1L, List.of());
+        // magic(4) + version(2) + createdAt(8) 다음이 count
+        ByteBuffer.wrap(bytes).putInt(14, -1);
+
+        assertThatThrownBy(() -> read(bytes)).isInstanceOf(IOException.class);
+    }
+
+    private static byte[] write(long createdAt, List<InstanceInfo> instances) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            RegistrySnapshotCodec.write(out, createdAt, instances);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static RegistrySnapshotCodec.Snapshot read(byte[] bytes) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            return RegistrySnapshotCodec.read(in);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.interplug.eureka.snapshot;
+
+import com.netflix.appinfo.DataCenterInfo;
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.MyDataCenterInfo;
+import com.netflix.discovery.shared.Application;
+import com.netflix.discovery.shared.Applications;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RegistrySnapshotServiceTests {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void corruptSnapshotIsIgnoredOnStart() throws IOException {
+        Path path = dir.resolve("registry.snapshot");
+        Files.write(path, new byte[]{0x45, 0x52, 0x4B, 0x53, 0, 1, 0});
+        PeerAwareInstanceRegistry registry = registry(new Applications());
+        RegistrySnapshotService service = new RegistrySnapshotService(registry, properties(path));
+
+        assertThatCode(service::start).doesNotThrowAnyException();
+        service.stop();
+
+        verify(registry, never()).register(any(), anyInt(), anyBoolean());
+    }
+
+    @Test
+    void savedSnapshotIsRestoredWithProvisionalLease() {
+        Path path = dir.resolve("registry.snapshot");
+        InstanceInfo instance = InstanceInfo.Builder.newBuilder()
+                .setAppName("TEST-SERVICE")
+                .setInstanceId("host-1:test-service:8080")
+                .setHostName("host-1")
+                .setDataCenterInfo(new MyDataCenterInfo(DataCenterInfo.Name.MyOwn))
+                .build();
+        Applications applications = new Applications();
+        applications.addApplication(new Application("TEST-SERVICE", List.of(instance)));
+        new RegistrySnapshotService(registry(applications), properties(path)).save();
+
+        PeerAwareInstanceRegistry restarted = registry(new Applications());
+        RegistrySnapshotService service = new RegistrySnapshotService(restarted, properties(path));
+        service.start();
+        service.stop();
+
+        verify(restarted).register(argThat(restored -> restored.getId().equals("host-1:test-service:8080")),
+                eq(90), eq(true));
+    }
+
+    private static PeerAwareInstanceRegistry registry(Applications applications) {
+        PeerAwareInstanceRegistry registry = mock(PeerAwareInstanceRegistry.class);
+        when(registry.getApplicationsFromLocalRegionOnly()).thenReturn(applications);
+        return registry;
+    }
+
+    private static SnapshotProperties properties(Path path) {
+        SnapshotProperties properties = new SnapshotProperties();
+        properties.setPath(path.toString());
+        return properties;
+    }
+}
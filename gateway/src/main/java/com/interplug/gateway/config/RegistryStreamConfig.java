@@ -0,0 +1,28 @@
+package com.interplug.gateway.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interplug.gateway.discovery.RegistryStreamClient;
+import com.interplug.gateway.discovery.StreamingLoadBalancerConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * Eureka 레지스트리 변경 스트림 구독 (gateway.registry-stream.enabled=true 로 활성화)
+ * lb:// 라우팅의 인스턴스 목록을 스트림 캐시에서 제공하여 polling 주기만큼의 지연 없이 변경을 반영
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "gateway.registry-stream", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(RegistryStreamProperties.class)
+@LoadBalancerClients(defaultConfiguration = StreamingLoadBalancerConfiguration.class)
+public class RegistryStreamConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public RegistryStreamClient registryStreamClient(WebClient.Builder webClientBuilder, ObjectMapper objectMapper,
+                                                     RegistryStreamProperties registryStreamProperties) {
+        return new RegistryStreamClient(webClientBuilder, objectMapper, registryStreamProperties);
+    }
+}
@@ -0,0 +1,29 @@
+package com.interplug.gateway.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Eureka 레지스트리 변경 스트림 구독 설정 (gateway.registry-stream.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "gateway.registry-stream")
+public class RegistryStreamProperties {
+
+    /** 스트림 구독 사용 여부 (비활성화 시 기존 polling만 사용) */
+    private boolean enabled = false;
+
+    /** Eureka 서버의 변경 스트림 URL */
+    private String url = "http://localhost:8761/registry/stream";
+
+    /** 이 시간 동안 이벤트 / keep-alive가 없으면 연결이 끊긴 것으로 보고 재접속 */
+    private Duration idleTimeout = Duration.ofSeconds(45);
+
+    /** 재접속 최소 대기 시간 (실패가 반복되면 maxReconnectDelay까지 증가) */
+    private Duration reconnectDelay = Duration.ofSeconds(1);
+
+    /** 재접속 최대 대기 시간 */
+    private Duration maxReconnectDelay = Duration.ofSeconds(30);
+}
@@ -0,0 +1,118 @@
+package com.interplug.gateway.config;
+
+import com.interplug.gateway.tls.TlsHandshakeMetrics;
+import com.interplug.gateway.tls.TlsSessionTicketKeys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.handler.codec.http2.Http2SecurityUtil;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.OpenSsl;
+import io.netty.handler.ssl.OpenSslSessionContext;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslProvider;
+import io.netty.handler.ssl.SupportedCipherSuiteFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import reactor.netty.http.HttpProtocol;
+
+import javax.net.ssl.SSLException;
+import java.io.File;
+
+/**
+ * Gateway TLS 종료 설정
+ * - OpenSSL/BoringSSL(netty-tcnative) 사용 가능 시 네이티브 provider, 아니면 JDK TLS
+ * - 세션 캐시 + 세션 티켓으로 재접속 시 full handshake 회피
+ * - ALPN으로 h2 / http/1.1 협상
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "gateway.tls", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(TlsProperties.class)
+public class TlsConfig {
+
+    @Bean
+    public SslContext gatewaySslContext(TlsProperties tlsProperties) throws SSLException {
+        SslProvider provider = tlsProperties.isPreferOpenSsl() && OpenSsl.isAvailable()
+                ? SslProvider.OPENSSL
+                : SslProvider.JDK;
+
+        SslContextBuilder builder = SslContextBuilder
+                .forServer(new File(tlsProperties.getCertificate()),
+                        new File(tlsProperties.getPrivateKey()),
+                        tlsProperties.getPrivateKeyPassword())
+                .sslProvider(provider)
+                .sessionCacheSize(tlsProperties.getSessionCacheSize())
+                .sessionTimeout(tlsProperties.getSessionTimeout().toSeconds());
+
+        if (tlsProperties.isHttp2()) {
+            builder.ciphers(Http2SecurityUtil.CIPHERS, SupportedCipherSuiteFilter.INSTANCE)
+                    .applicationProtocolConfig(new ApplicationProtocolConfig(
+                            ApplicationProtocolConfig.Protocol.ALPN,
+                            ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+                            ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+                            ApplicationProtocolNames.HTTP_2,
+                            ApplicationProtocolNames.HTTP_1_1));
+        }
+
+        log.info("Gateway TLS enabled with {} provider (OpenSSL available: {}, version: {})",
+                provider, OpenSsl.isAvailable(), OpenSsl.isAvailable() ? OpenSsl.versionString() : "n/a");
+        return builder.build();
+    }
+
+    @Bean
+    public TlsHandshakeMetrics tlsHandshakeMetrics(MeterRegistry meterRegistry, SslContext gatewaySslContext) {
+        if (gatewaySslContext.sessionContext() instanceof OpenSslSessionContext openSslSessionContext) {
+            TlsHandshakeMetrics.bindOpenSslStats(openSslSessionContext, meterRegistry);
+            return new TlsHandshakeMetrics(meterRegistry, "openssl");
+        }
+        return new TlsHandshakeMetrics(meterRegistry, "jdk");
+    }
+
+    /**
+     * JDK provider는 JVM이 자체적으로 stateless 티켓 키를 관리하므로 OpenSSL provider를 쓸 때만 등록
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "gateway.tls", name = "prefer-open-ssl", havingValue = "true", matchIfMissing = true)
+    @Conditional(OpenSslAvailableCondition.class)
+    public TlsSessionTicketKeys tlsSessionTicketKeys(SslContext gatewaySslContext, TlsProperties tlsProperties) {
+        return new TlsSessionTicketKeys((OpenSslSessionContext) gatewaySslContext.sessionContext(),
+                tlsProperties.getTicketKeyRotation());
+    }
+
+    @Bean
+    public WebServerFactoryCustomizer<NettyReactiveWebServerFactory> tlsServerCustomizer(
+            SslContext gatewaySslContext, TlsHandshakeMetrics tlsHandshakeMetrics, TlsProperties tlsProperties) {
+        HttpProtocol[] protocols = tlsProperties.isHttp2()
+                ? new HttpProtocol[]{HttpProtocol.H2, HttpProtocol.HTTP11}
+                : new HttpProtocol[]{HttpProtocol.HTTP11};
+
+        return factory -> factory.addServerCustomizers(httpServer -> httpServer
+                .secure(spec -> spec.sslContext(gatewaySslContext))
+                .protocol(protocols)
+                .doOnChannelInit((observer, channel, remoteAddress) -> tlsHandshakeMetrics.track(channel)));
+    }
+
+    /**
+     * netty-tcnative 네이티브 라이브러리를 이 플랫폼에서 로드할 수 있는지 (gatewaySslContext 의 provider 선택과 동일 기준)
+     */
+    static class OpenSslAvailableCondition extends SpringBootCondition {
+
+        @Override
+        public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            return OpenSsl.isAvailable()
+                    ? ConditionOutcome.match("OpenSSL is available")
+                    : ConditionOutcome.noMatch("OpenSSL is not available");
+        }
+    }
+}
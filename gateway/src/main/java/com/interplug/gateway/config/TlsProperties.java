@@ -0,0 +1,41 @@
+package com.interplug.gateway.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Gateway TLS 종료 설정 (gateway.tls.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "gateway.tls")
+public class TlsProperties {
+
+    /** TLS 종료 활성화 여부 */
+    private boolean enabled = false;
+
+    /** 서버 인증서 체인 (PEM) 경로 */
+    private String certificate;
+
+    /** 개인키 (PKCS#8 PEM) 경로 */
+    private String privateKey;
+
+    /** 개인키 비밀번호 (암호화되지 않은 키는 비워둠) */
+    private String privateKeyPassword;
+
+    /** 사용 가능한 경우 OpenSSL/BoringSSL 네이티브 provider 사용 */
+    private boolean preferOpenSsl = true;
+
+    /** 서버 세션 캐시 크기 (세션 수) */
+    private long sessionCacheSize = 20_480;
+
+    /** 세션 캐시 / 티켓 유효 시간 */
+    private Duration sessionTimeout = Duration.ofHours(1);
+
+    /** 세션 티켓 키 교체 주기 (OpenSSL provider 전용, 이전 키는 복호화용으로 유지) */
+    private Duration ticketKeyRotation = Duration.ofHours(12);
+
+    /** ALPN으로 h2 협상 허용 */
+    private boolean http2 = true;
+}
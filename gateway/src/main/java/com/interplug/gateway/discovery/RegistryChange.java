@@ -0,0 +1,31 @@
+package com.interplug.gateway.discovery;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Eureka 레지스트리 변경 스트림 이벤트 (eureka 모듈의 RegistryChange와 동일한 형식)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record RegistryChange(
+        long version,
+        Type type,
+        String app,
+        String id,
+        String host,
+        String ip,
+        Integer port,
+        Integer securePort,
+        String status,
+        Map<String, String> metadata) {
+
+    public enum Type {
+        ADDED, REMOVED
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Snapshot(long version, List<RegistryChange> instances) {
+    }
+}
@@ -0,0 +1,155 @@
+package com.interplug.gateway.discovery;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interplug.gateway.config.RegistryStreamProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.util.retry.Retry;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Eureka 레지스트리 변경 스트림(SSE) 구독 클라이언트
+ * - snapshot 이벤트로 전체 인스턴스 캐시를 구성하고 change 이벤트로 갱신
+ * - 연결이 끊기면 Last-Event-ID로 재접속하여 누락분만 수신
+ * - 동기화되지 않은 동안(isSynced=false)에는 호출자가 기존 polling 경로를 사용
+ */
+@Slf4j
+public class RegistryStreamClient {
+
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+    private static final String STATUS_UP = "UP";
+
+    private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+    private final RegistryStreamProperties properties;
+    private final Map<String, Map<String, ServiceInstance>> instancesByService = new ConcurrentHashMap<>();
+    private volatile String lastEventId;
+    private volatile boolean synced;
+    private Disposable subscription;
+
+    public RegistryStreamClient(WebClient.Builder webClientBuilder, ObjectMapper objectMapper,
+                                RegistryStreamProperties properties) {
+        this.webClient = webClientBuilder.build();
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    public void start() {
+        subscription = Flux.defer(this::connect)
+                .timeout(properties.getIdleTimeout())
+                .doOnComplete(() -> markDisconnected("stream closed by server"))
+                .doOnError(e -> markDisconnected(e.getMessage()))
+                .repeatWhen(completed -> completed.delayElements(properties.getReconnectDelay()))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, properties.getReconnectDelay())
+                        .maxBackoff(properties.getMaxReconnectDelay())
+                        .transientErrors(true))
+                .subscribe(this::apply);
+    }
+
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    public boolean isSynced() {
+        return synced;
+    }
+
+    /**
+     * 서비스의 UP 상태 인스턴스 목록
+     */
+    public List<ServiceInstance> getInstances(String serviceId) {
+        Map<String, ServiceInstance> instances = instancesByService.get(serviceId.toLowerCase(Locale.ROOT));
+        return instances == null ? List.of() : List.copyOf(instances.values());
+    }
+
+    private Flux<ServerSentEvent<String>> connect() {
+        return webClient.get()
+                .uri(properties.getUrl())
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .headers(headers -> {
+                    if (lastEventId != null) {
+                        headers.set("Last-Event-ID", lastEventId);
+                    }
+                })
+                .exchangeToFlux(response -> {
+                    if (!response.statusCode().is2xxSuccessful()) {
+                        return response.<ServerSentEvent<String>>createError().flux();
+                    }
+                    // 이전 상태가 있으면 누락분이 바로 이어서 전송되므로 연결 시점부터 동기화된 것으로 간주
+                    if (lastEventId != null) {
+                        synced = true;
+                    }
+                    log.info("Connected to registry stream {} (Last-Event-ID: {})", properties.getUrl(), lastEventId);
+                    return response.bodyToFlux(SSE_TYPE);
+                });
+    }
+
+    private void apply(ServerSentEvent<String> event) {
+        if (event.event() == null || event.data() == null) {
+            return;  // keep-alive 코멘트
+        }
+        try {
+            switch (event.event()) {
+                case "snapshot" -> applySnapshot(objectMapper.readValue(event.data(), RegistryChange.Snapshot.class));
+                case "change" -> applyChange(objectMapper.readValue(event.data(), RegistryChange.class));
+                default -> log.debug("Ignoring registry stream event: {}", event.event());
+            }
+            lastEventId = event.id();
+        } catch (JsonProcessingException e) {
+            log.error("Error parsing registry stream event {}: {}", event.id(), e.getMessage());
+        }
+    }
+
+    private void applySnapshot(RegistryChange.Snapshot snapshot) {
+        instancesByService.clear();
+        snapshot.instances().forEach(this::applyChange);
+        synced = true;
+        log.info("Registry stream snapshot applied: {} instances (version {})",
+                snapshot.instances().size(), snapshot.version());
+    }
+
+    private void applyChange(RegistryChange change) {
+        String serviceId = change.app().toLowerCase(Locale.ROOT);
+        if (change.type() == RegistryChange.Type.ADDED && STATUS_UP.equals(change.status())) {
+            instancesByService.computeIfAbsent(serviceId, key -> new ConcurrentHashMap<>())
+                    .put(change.id(), toServiceInstance(change));
+        } else {
+            instancesByService.computeIfPresent(serviceId, (key, instances) -> {
+                instances.remove(change.id());
+                return instances.isEmpty() ? null : instances;
+            });
+        }
+        log.debug("Registry change {} {} {}/{}", change.version(), change.type(), change.app(), change.id());
+    }
+
+    private ServiceInstance toServiceInstance(RegistryChange change) {
+        boolean secure = change.securePort() != null;
+        int port = secure ? change.securePort() : (change.port() != null ? change.port() : 80);
+        String host = change.ip() != null ? change.ip() : change.host();
+        return new DefaultServiceInstance(change.id(), change.app(), host, port, secure,
+                change.metadata() != null ? change.metadata() : Map.of());
+    }
+
+    private void markDisconnected(String reason) {
+        if (synced) {
+            log.warn("Registry stream disconnected, falling back to polling: {}", reason);
+        }
+        synced = false;
+    }
+}
@@ -0,0 +1,22 @@
+package com.interplug.gateway.discovery;
+
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * LoadBalancer 기본 설정 (@LoadBalancerClients defaultConfiguration 전용)
+ * 서비스별 LoadBalancer 자식 컨텍스트에서만 로드되도록 @Configuration을 붙이지 않음
+ */
+public class StreamingLoadBalancerConfiguration {
+
+    @Bean
+    public ServiceInstanceListSupplier streamingServiceInstanceListSupplier(
+            ConfigurableApplicationContext context, RegistryStreamClient registryStreamClient) {
+        return ServiceInstanceListSupplier.builder()
+                .withDiscoveryClient()
+                .withCaching()
+                .with((ctx, delegate) -> new StreamingServiceInstanceListSupplier(delegate, registryStreamClient))
+                .build(context);
+    }
+}
@@ -0,0 +1,30 @@
+package com.interplug.gateway.discovery;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.DelegatingServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * 레지스트리 변경 스트림이 동기화된 동안에는 스트림 캐시에서 인스턴스를 제공하고,
+ * 연결이 끊긴 동안에는 기존 DiscoveryClient(polling) 경로로 위임
+ */
+public class StreamingServiceInstanceListSupplier extends DelegatingServiceInstanceListSupplier {
+
+    private final RegistryStreamClient registryStreamClient;
+
+    public StreamingServiceInstanceListSupplier(ServiceInstanceListSupplier delegate,
+                                                RegistryStreamClient registryStreamClient) {
+        super(delegate);
+        this.registryStreamClient = registryStreamClient;
+    }
+
+    @Override
+    public Flux<List<ServiceInstance>> get() {
+        return Flux.defer(() -> registryStreamClient.isSynced()
+                ? Flux.just(registryStreamClient.getInstances(getServiceId()))
+                : getDelegate().get());
+    }
+}
@@ -0,0 +1,106 @@
+package com.interplug.gateway.tls;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.Channel;
+import io.netty.handler.ssl.OpenSslSessionContext;
+import io.netty.handler.ssl.ReferenceCountedOpenSslEngine;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.internal.tcnative.SSL;
+
+import javax.net.ssl.SSLEngine;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TLS 핸드셰이크 / 세션 재사용 메트릭
+ * - gateway.tls.handshakes{result=success|failure}
+ * - gateway.tls.handshakes.resumed, gateway.tls.resumption.rate
+ * - gateway.tls.handshake.duration
+ */
+public class TlsHandshakeMetrics {
+
+    private final Counter successCounter;
+    private final Counter failureCounter;
+    private final Counter resumedCounter;
+    private final Timer handshakeTimer;
+
+    public TlsHandshakeMetrics(MeterRegistry meterRegistry, String provider) {
+        this.successCounter = Counter.builder("gateway.tls.handshakes")
+                .tag("provider", provider)
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("gateway.tls.handshakes")
+                .tag("provider", provider)
+                .tag("result", "failure")
+                .register(meterRegistry);
+        this.resumedCounter = Counter.builder("gateway.tls.handshakes.resumed")
+                .tag("provider", provider)
+                .register(meterRegistry);
+        this.handshakeTimer = Timer.builder("gateway.tls.handshake.duration")
+                .tag("provider", provider)
+                .register(meterRegistry);
+        Gauge.builder("gateway.tls.resumption.rate", this, TlsHandshakeMetrics::resumptionRate)
+                .tag("provider", provider)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 채널의 SslHandler 핸드셰이크 완료 시점에 결과를 기록
+     */
+    public void track(Channel channel) {
+        SslHandler sslHandler = channel.pipeline().get(SslHandler.class);
+        if (sslHandler == null) {
+            return;
+        }
+        long startNanos = System.nanoTime();
+        long startSeconds = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis());
+
+        sslHandler.handshakeFuture().addListener(future -> {
+            handshakeTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            if (!future.isSuccess()) {
+                failureCounter.increment();
+                return;
+            }
+            successCounter.increment();
+            if (isResumed(sslHandler.engine(), startSeconds)) {
+                resumedCounter.increment();
+            }
+        });
+    }
+
+    /**
+     * OpenSSL 네이티브 세션 통계 (캐시 hit/miss, 티켓 재개/실패) 노출
+     */
+    public static void bindOpenSslStats(OpenSslSessionContext sessionContext, MeterRegistry meterRegistry) {
+        FunctionCounter.builder("gateway.tls.openssl.session.hits", sessionContext, ctx -> ctx.stats().hits())
+                .register(meterRegistry);
+        FunctionCounter.builder("gateway.tls.openssl.session.misses", sessionContext, ctx -> ctx.stats().misses())
+                .register(meterRegistry);
+        FunctionCounter.builder("gateway.tls.openssl.ticket.resume", sessionContext, ctx -> ctx.stats().ticketKeyResume())
+                .register(meterRegistry);
+        // 직전(교체된) 키로 복호화되어 새 키로 다시 발급된 티켓
+        FunctionCounter.builder("gateway.tls.openssl.ticket.renew", sessionContext, ctx -> ctx.stats().ticketKeyRenew())
+                .register(meterRegistry);
+        FunctionCounter.builder("gateway.tls.openssl.ticket.fail", sessionContext, ctx -> ctx.stats().ticketKeyFail())
+                .register(meterRegistry);
+    }
+
+    private double resumptionRate() {
+        double total = successCounter.count();
+        return total == 0 ? 0.0 : resumedCounter.count() / total;
+    }
+
+    /**
+     * OpenSSL은 네이티브 재사용 플래그로 판정 (티켓으로 재개된 세션은 생성 시각이 새로 잡힘)
+     * JDK는 재개된 세션이 최초 생성 시각을 유지하므로 핸드셰이크 시작 시각과 초 단위로 비교
+     */
+    private static boolean isResumed(SSLEngine engine, long startSeconds) {
+        if (engine instanceof ReferenceCountedOpenSslEngine openSslEngine) {
+            return SSL.isSessionReused(openSslEngine.sslPointer());
+        }
+        return TimeUnit.MILLISECONDS.toSeconds(engine.getSession().getCreationTime()) < startSeconds;
+    }
+}
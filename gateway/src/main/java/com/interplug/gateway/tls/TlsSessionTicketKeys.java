@@ -0,0 +1,57 @@
+package com.interplug.gateway.tls;
+
+import io.netty.handler.ssl.OpenSslSessionContext;
+import io.netty.handler.ssl.OpenSslSessionTicketKey;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+
+/**
+ * OpenSSL 세션 티켓 키 교체
+ * 새 키로 티켓을 발급하고, 직전 키는 복호화용으로 한 주기 동안 유지하여
+ * 교체 직후에도 기존 클라이언트가 세션을 재개할 수 있도록 함
+ */
+@Slf4j
+public class TlsSessionTicketKeys implements AutoCloseable {
+
+    private final SecureRandom random = new SecureRandom();
+    private final OpenSslSessionContext sessionContext;
+    private final Disposable rotation;
+    private OpenSslSessionTicketKey currentKey;
+
+    public TlsSessionTicketKeys(OpenSslSessionContext sessionContext, Duration rotationInterval) {
+        this.sessionContext = sessionContext;
+        rotate();
+        this.rotation = Flux.interval(rotationInterval, rotationInterval)
+                .subscribe(tick -> rotate());
+    }
+
+    @Override
+    public void close() {
+        rotation.dispose();
+    }
+
+    private synchronized void rotate() {
+        OpenSslSessionTicketKey previousKey = currentKey;
+        currentKey = new OpenSslSessionTicketKey(
+                randomBytes(OpenSslSessionTicketKey.NAME_SIZE),
+                randomBytes(OpenSslSessionTicketKey.HMAC_KEY_SIZE),
+                randomBytes(OpenSslSessionTicketKey.AES_KEY_SIZE));
+
+        if (previousKey == null) {
+            sessionContext.setTicketKeys(currentKey);
+        } else {
+            sessionContext.setTicketKeys(currentKey, previousKey);
+        }
+        log.debug("Rotated TLS session ticket key");
+    }
+
+    private byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,53 @@
+package com.interplug.gateway.config;
+
+import com.interplug.gateway.tls.TlsHandshakeMetrics;
+import com.interplug.gateway.tls.TlsSessionTicketKeys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.handler.ssl.OpenSsl;
+import io.netty.handler.ssl.SslContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.io.File;
+import java.net.URISyntaxException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class TlsConfigTests {
+
+    @Test
+    void jdkProviderStartsWithoutTicketKeyBean() throws URISyntaxException {
+        contextRunner("gateway.tls.prefer-open-ssl=false").run(context -> {
+            assertThat(context).hasNotFailed();
+            assertThat(context).hasSingleBean(SslContext.class);
+            assertThat(context).hasSingleBean(TlsHandshakeMetrics.class);
+            assertThat(context).doesNotHaveBean(TlsSessionTicketKeys.class);
+        });
+    }
+
+    @Test
+    void openSslProviderRegistersTicketKeyBean() throws URISyntaxException {
+        assumeTrue(OpenSsl.isAvailable(), "netty-tcnative is not available on this platform");
+        contextRunner("gateway.tls.prefer-open-ssl=true").run(context -> {
+            assertThat(context).hasNotFailed();
+            assertThat(context.getBean(SslContext.class).isServer()).isTrue();
+            assertThat(context).hasSingleBean(TlsSessionTicketKeys.class);
+        });
+    }
+
+    private static ApplicationContextRunner contextRunner(String preferOpenSsl) throws URISyntaxException {
+        return new ApplicationContextRunner()
+                .withUserConfiguration(TlsConfig.class)
+                .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+                .withPropertyValues("gateway.tls.enabled=true",
+                        "gateway.tls.certificate=" + resource("gateway-test.crt").getPath(),
+                        "gateway.tls.private-key=" + resource("gateway-test.key").getPath(),
+                        preferOpenSsl);
+    }
+
+    private static File resource(String name) throws URISyntaxException {
+        return new File(TlsConfigTests.class.getResource("/tls/" + name).toURI());
+    }
+}
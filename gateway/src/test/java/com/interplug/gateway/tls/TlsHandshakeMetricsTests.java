@@ -0,0 +1,152 @@
+package com.interplug.gateway.tls;
+
+import com.interplug.gateway.config.TlsConfig;
+import com.interplug.gateway.config.TlsProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.handler.ssl.OpenSsl;
+import io.netty.handler.ssl.OpenSslSessionContext;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslProvider;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+
+import javax.net.ssl.SSLException;
+import java.io.File;
+import java.net.URISyntaxException;
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class TlsHandshakeMetricsTests {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void jdkProviderCountsFullAndResumedHandshakes() throws Exception {
+        SslContext serverContext = serverContext(false);
+        TlsHandshakeMetrics metrics = new TlsHandshakeMetrics(meterRegistry, "jdk");
+        DisposableServer server = start(serverContext, metrics);
+        try {
+            HttpClient client = client(server, clientContext());
+            assertThat(get(client)).isEqualTo("ok");
+            // 재개 판정이 세션 생성 시각(초 단위) 비교이므로 다음 초에 재접속
+            Thread.sleep(1_100);
+            assertThat(get(client)).isEqualTo("ok");
+
+            await(() -> count("gateway.tls.handshakes", "jdk", "success") == 2);
+            assertThat(meterRegistry.get("gateway.tls.handshakes.resumed").counter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("gateway.tls.resumption.rate").gauge().value()).isEqualTo(0.5);
+            assertThat(meterRegistry.get("gateway.tls.handshake.duration").timer().count()).isEqualTo(2);
+        } finally {
+            server.disposeNow();
+        }
+    }
+
+    @Test
+    void openSslProviderResumesWithRotatedTicketKey() throws Exception {
+        assumeTrue(OpenSsl.isAvailable(), "netty-tcnative is not available on this platform");
+        SslContext serverContext = serverContext(true);
+        OpenSslSessionContext sessionContext = (OpenSslSessionContext) serverContext.sessionContext();
+        TlsHandshakeMetrics.bindOpenSslStats(sessionContext, meterRegistry);
+        TlsHandshakeMetrics metrics = new TlsHandshakeMetrics(meterRegistry, "openssl");
+        DisposableServer server = start(serverContext, metrics);
+        try (TlsSessionTicketKeys ticketKeys = new TlsSessionTicketKeys(sessionContext, Duration.ofSeconds(3))) {
+            HttpClient client = client(server, clientContext());
+            assertThat(get(client)).isEqualTo("ok");
+            assertThat(get(client)).isEqualTo("ok");
+            // 키가 한 번 교체된 뒤에도 직전 키로 발급된 티켓은 복호화되어 새 키로 재발급되어야 함
+            Thread.sleep(3_500);
+            assertThat(get(client)).isEqualTo("ok");
+
+            await(() -> count("gateway.tls.handshakes", "openssl", "success") == 3);
+            assertThat(meterRegistry.get("gateway.tls.handshakes.resumed").counter().count()).isEqualTo(2);
+            assertThat(meterRegistry.get("gateway.tls.openssl.ticket.resume").functionCounter().count())
+                    .isEqualTo(1);
+            assertThat(meterRegistry.get("gateway.tls.openssl.ticket.renew").functionCounter().count())
+                    .isEqualTo(1);
+            assertThat(meterRegistry.get("gateway.tls.openssl.ticket.fail").functionCounter().count()).isZero();
+        } finally {
+            server.disposeNow();
+        }
+    }
+
+    @Test
+    void rejectedHandshakeIsCountedAsFailure() throws Exception {
+        TlsHandshakeMetrics metrics = new TlsHandshakeMetrics(meterRegistry, "jdk");
+        DisposableServer server = start(serverContext(false), metrics);
+        try {
+            // 서버 인증서를 신뢰하지 않는 클라이언트
+            HttpClient client = client(server, SslContextBuilder.forClient().build());
+            assertThatThrownBy(() -> get(client)).hasCauseInstanceOf(SSLException.class);
+
+            await(() -> count("gateway.tls.handshakes", "jdk", "failure") == 1);
+            assertThat(count("gateway.tls.handshakes", "jdk", "success")).isZero();
+        } finally {
+            server.disposeNow();
+        }
+    }
+
+    private static SslContext serverContext(boolean preferOpenSsl) throws SSLException, URISyntaxException {
+        TlsProperties properties = new TlsProperties();
+        properties.setCertificate(resource("gateway-test.crt").getPath());
+        properties.setPrivateKey(resource("gateway-test.key").getPath());
+        properties.setPreferOpenSsl(preferOpenSsl);
+        return new TlsConfig().gatewaySslContext(properties);
+    }
+
+    private static SslContext clientContext() throws SSLException, URISyntaxException {
+        return SslContextBuilder.forClient()
+                .sslProvider(SslProvider.JDK)
+                .trustManager(resource("gateway-test.crt"))
+                .build();
+    }
+
+    private static DisposableServer start(SslContext serverContext, TlsHandshakeMetrics metrics) {
+        return HttpServer.create()
+                .port(0)
+                .secure(spec -> spec.sslContext(serverContext))
+                .doOnChannelInit((observer, channel, remoteAddress) -> metrics.track(channel))
+                .handle((request, response) -> response.sendString(Mono.just("ok")))
+                .bindNow();
+    }
+
+    /**
+     * 요청마다 새 연결 (핸드셰이크 반복), 같은 클라이언트 SslContext 를 써서 세션 재개 가능
+     */
+    private static HttpClient client(DisposableServer server, SslContext clientContext) {
+        return HttpClient.newConnection()
+                .secure(spec -> spec.sslContext(clientContext))
+                .baseUrl("https://localhost:" + server.port());
+    }
+
+    private static String get(HttpClient client) {
+        return client.get().uri("/").responseContent().aggregate().asString().block(Duration.ofSeconds(10));
+    }
+
+    private double count(String name, String provider, String result) {
+        return meterRegistry.get(name).tag("provider", provider).tag("result", result).counter().count();
+    }
+
+    private static File resource(String name) throws URISyntaxException {
+        return new File(TlsHandshakeMetricsTests.class.getResource("/tls/" + name).toURI());
+    }
+
+    /**
+     * 서버 쪽 핸드셰이크 리스너는 이벤트 루프에서 비동기로 실행되므로 잠시 대기
+     */
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
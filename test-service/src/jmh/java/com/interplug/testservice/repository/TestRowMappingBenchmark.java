@@ -0,0 +1,104 @@
+package com.interplug.testservice.repository;
+
+import com.interplug.testservice.dto.TestDto;
+import com.interplug.testservice.entity.Test;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.r2dbc.convert.MappingR2dbcConverter;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 같은 R2DBC 쿼리 결과(1000 행)를 두 경로로 매핑해 행당 시간 / 할당량 비교 (gc.alloc.rate.norm 은 행당 바이트)
+ * - entity: Spring Data 컨버터(MappingR2dbcConverter)로 Test 생성 후 빌더로 TestDto 복사 (TestService.convertToDto)
+ * - projection: TestDtoRowMapper 로 TestDto 직접 생성
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(TestRowMappingBenchmark.ROWS)
+public class TestRowMappingBenchmark {
+
+    static final int ROWS = 1000;
+
+    private static final String SELECT = "SELECT " + TestDtoRowMapper.COLUMNS + " FROM tests ORDER BY id";
+
+    private DatabaseClient databaseClient;
+    private R2dbcConverter converter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ConnectionFactory connectionFactory = ConnectionFactories.get("r2dbc:h2:mem:///mapping-bench;DB_CLOSE_DELAY=-1");
+        databaseClient = DatabaseClient.create(connectionFactory);
+        converter = new MappingR2dbcConverter(new R2dbcMappingContext());
+
+        databaseClient.sql("CREATE TABLE IF NOT EXISTS tests (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                        + "name VARCHAR(100) NOT NULL, description VARCHAR(500), user_id BIGINT, "
+                        + "created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP NOT NULL, version BIGINT DEFAULT 0 NOT NULL)")
+                .then().block();
+        databaseClient.sql("DELETE FROM tests").then().block();
+        LocalDateTime now = LocalDateTime.now();
+        Flux.range(1, ROWS)
+                .concatMap(i -> databaseClient.sql("INSERT INTO tests (name, description, user_id, created_at, updated_at) "
+                                + "VALUES (:name, :description, :userId, :createdAt, :updatedAt)")
+                        .bind("name", "test " + i)
+                        .bind("description", "description of test " + i)
+                        .bind("userId", (long) (i % 100 + 1))
+                        .bind("createdAt", now)
+                        .bind("updatedAt", now)
+                        .then())
+                .blockLast();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        databaseClient.sql("SHUTDOWN").then().block();
+    }
+
+    @Benchmark
+    public List<TestDto> entity() {
+        return databaseClient.sql(SELECT)
+                .map((row, metadata) -> converter.read(Test.class, row, metadata))
+                .all()
+                .map(TestRowMappingBenchmark::convertToDto)
+                .collectList()
+                .block();
+    }
+
+    @Benchmark
+    public List<TestDto> projection() {
+        return databaseClient.sql(SELECT)
+                .map(TestDtoRowMapper.INSTANCE)
+                .all()
+                .collectList()
+                .block();
+    }
+
+    private static TestDto convertToDto(Test test) {
+        return TestDto.builder()
+                .id(test.getId())
+                .name(test.getName())
+                .description(test.getDescription())
+                .userId(test.getUserId())
+                .createdAt(test.getCreatedAt())
+                .updatedAt(test.getUpdatedAt())
+                .version(test.getVersion())
+                .build();
+    }
+}
@@ -0,0 +1,150 @@
+package com.interplug.testservice.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 1M 행에서 이름 / 설명 검색: 인덱스 구축 중 대체 조회와 같은 DB 조건 스캔 vs n-gram 인덱스
+ * - likeScan: 검색어마다 (LOWER(name) LIKE OR LOWER(description) LIKE) 를 AND 로 묶은 조건
+ *   (TestProjectionRepositoryImpl.findDtosContainingAllTerms 와 같은 SQL)
+ * - ngramIndex: 같은 조건의 전체 일치 문서를 점수순으로 (limit = 전체 행 수)
+ * - 두 방식의 일치 건수가 다르면 trial 시작 전에 실패시켜 서로 다른 작업을 비교하지 않도록 함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TestSearchBenchmark {
+
+    private static final String[] WORDS = {
+            "webflux", "reactive", "gateway", "eureka", "discovery", "circuit", "breaker", "r2dbc",
+            "config", "server", "client", "routing", "cache", "stream", "batch", "search",
+            "latency", "timeout", "retry", "bulkhead", "metrics", "tracing", "security", "token"
+    };
+
+    @Param("1000000")
+    private int rows;
+
+    /** 희소한 검색어(이름 + 번호)와 흔한 검색어(단어 하나) */
+    @Param({"gateway 4242", "bulkhead"})
+    private String keyword;
+
+    private Connection connection;
+    private List<String> patterns;
+    private PreparedStatement like;
+    private TestSearchIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:search-bench;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS tests");
+            statement.execute("CREATE TABLE tests (id BIGINT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(100) NOT NULL, "
+                    + "description VARCHAR(500), created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP NOT NULL)");
+        }
+
+        index = new TestSearchIndex(3);
+        Random random = new Random(42);
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO tests (id, name, description, created_at, updated_at) VALUES (?, ?, ?, ?, ?)")) {
+            for (int id = 1; id <= rows; id++) {
+                String name = word(random) + " " + word(random) + " " + random.nextInt(100_000);
+                String description = word(random) + " " + word(random) + " " + word(random) + " "
+                        + word(random) + " " + word(random) + " test";
+                insert.setLong(1, id);
+                insert.setString(2, name);
+                insert.setString(3, description);
+                insert.setTimestamp(4, now);
+                insert.setTimestamp(5, now);
+                insert.addBatch();
+                if (id % 10_000 == 0) {
+                    insert.executeBatch();
+                }
+                index.put(id, name, description);
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+
+        // bindTerms 와 같은 이스케이프
+        patterns = TestSearchIndex.terms(keyword).stream()
+                .map(term -> "%" + term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%")
+                .toList();
+        like = connection.prepareStatement(
+                "SELECT id, name, description FROM tests WHERE " + termsCondition(patterns.size()));
+
+        int scanned = likeScan();
+        int indexed = ngramIndex().size();
+        if (scanned != indexed) {
+            throw new IllegalStateException(String.format(Locale.ROOT,
+                    "'%s': LIKE scan matched %d rows but the index matched %d", keyword, scanned, indexed));
+        }
+        System.out.printf(Locale.ROOT, "%n'%s' matches %d of %d rows on both sides%n", keyword, scanned, rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN");
+        }
+    }
+
+    @Benchmark
+    public int likeScan() throws SQLException {
+        for (int i = 0; i < patterns.size(); i++) {
+            like.setString(2 * i + 1, patterns.get(i));
+            like.setString(2 * i + 2, patterns.get(i));
+        }
+        int count = 0;
+        try (ResultSet resultSet = like.executeQuery()) {
+            while (resultSet.next()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public List<TestSearchIndex.Hit> ngramIndex() {
+        return index.search(keyword, rows);
+    }
+
+    /**
+     * TestProjectionRepositoryImpl.termsCondition 과 같은 조건 (이름 있는 파라미터 대신 ?)
+     */
+    private static String termsCondition(int count) {
+        StringBuilder condition = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                condition.append(" AND ");
+            }
+            condition.append("(LOWER(name) LIKE ? ESCAPE '\\' OR LOWER(description) LIKE ? ESCAPE '\\')");
+        }
+        return condition.toString();
+    }
+
+    private static String word(Random random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+}
@@ -0,0 +1,116 @@
+package com.interplug.testservice.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 인스턴스별 응답 시간(peak EWMA)과 처리 중 요청 수 추적
+ * - 로드밸런서 필터 안쪽에 등록하는 ExchangeFilterFunction: 요청 URL 이 이미 선택된 인스턴스 주소로 바뀐 상태에서 측정
+ * - 처리 중 요청 수는 구독 시 증가, 성공 / 실패 / 취소(time limiter, 조회 시간 예산) 모두 doFinally 에서 감소
+ * - 응답 시간이 평균보다 길면 즉시 그 값으로 올리고, 짧으면 시간 감쇠로 천천히 내림
+ * - 종료 시 한 번만 기록: 실패는 failurePenalty 이상, 취소는 취소 시점까지의 경과 시간(실제 응답 시간의 하한)
+ * - 선택되지 않는 동안에도 비용이 감쇠하므로 한때 느렸던 인스턴스도 다시 시도됨
+ * - 비용 = EWMA × (처리 중 요청 + 1), 측정 전 인스턴스는 0 으로 우선 시도
+ * - 메트릭: test.user-client.instance.latency{instance}
+ */
+public class InstanceLatencyTracker implements ExchangeFilterFunction {
+
+    private final double decayNanos;
+    private final long failurePenaltyNanos;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+    public InstanceLatencyTracker(Duration latencyDecay, Duration failurePenalty, MeterRegistry meterRegistry) {
+        this.decayNanos = latencyDecay.toNanos();
+        this.failurePenaltyNanos = failurePenalty.toNanos();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.defer(() -> {
+            Stats instanceStats = stats(key(request.url()));
+            instanceStats.inFlight.incrementAndGet();
+            long start = System.nanoTime();
+            return next.exchange(request)
+                    .doFinally(signal -> {
+                        long latency = System.nanoTime() - start;
+                        instanceStats.observe(signal == SignalType.ON_ERROR
+                                ? Math.max(latency, failurePenaltyNanos) : latency, decayNanos);
+                        instanceStats.inFlight.decrementAndGet();
+                    });
+        });
+    }
+
+    /**
+     * 로드밸런서 선택 비용 (낮을수록 우선)
+     */
+    public double cost(ServiceInstance instance) {
+        Stats instanceStats = stats.get(key(instance));
+        if (instanceStats == null) {
+            return 0;
+        }
+        return instanceStats.ewmaNanos(System.nanoTime(), decayNanos) * (instanceStats.inFlight.get() + 1);
+    }
+
+    int inFlight(ServiceInstance instance) {
+        Stats instanceStats = stats.get(key(instance));
+        return instanceStats == null ? 0 : instanceStats.inFlight.get();
+    }
+
+    private Stats stats(String key) {
+        return stats.computeIfAbsent(key, k -> {
+            Stats created = new Stats();
+            Gauge.builder("test.user-client.instance.latency", created,
+                            s -> s.ewmaNanos(System.nanoTime(), decayNanos) / 1_000_000.0)
+                    .description("인스턴스별 응답 시간 EWMA (ms)")
+                    .tag("instance", k)
+                    .register(meterRegistry);
+            return created;
+        });
+    }
+
+    private static String key(ServiceInstance instance) {
+        return instance.getHost() + ":" + instance.getPort();
+    }
+
+    private static String key(URI url) {
+        int port = url.getPort() != -1 ? url.getPort() : "https".equals(url.getScheme()) ? 443 : 80;
+        return url.getHost() + ":" + port;
+    }
+
+    private static final class Stats {
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private double ewma;
+        private long lastUpdate;
+
+        synchronized void observe(long latency, double decayNanos) {
+            long now = System.nanoTime();
+            if (lastUpdate == 0 || latency > ewma) {
+                ewma = latency;
+            } else {
+                double weight = Math.exp(-(now - lastUpdate) / decayNanos);
+                ewma = ewma * weight + latency * (1 - weight);
+            }
+            lastUpdate = now;
+        }
+
+        synchronized double ewmaNanos(long now, double decayNanos) {
+            return lastUpdate == 0 ? ewma : ewma * Math.exp(-(now - lastUpdate) / decayNanos);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.interplug.testservice.client;
+
+import com.interplug.testservice.config.UserBatchProperties;
+import com.interplug.testservice.dto.UserDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * DataLoader 방식 User 조회 배칭
+ * - window 동안(또는 maxBatchSize 에 도달할 때까지) 들어온 단건 조회를 모아 중복 제거 후 일괄 조회 1회로 전송
+ * - 응답을 ID별로 나눠 기다리던 구독자에게 전달 (응답에 없는 ID 는 empty = 404 와 동일)
+ * - 일괄 조회 경로가 없으면(400/404/405/501) unsupportedRetryAfter 동안 단건 조회로 대체
+ * - 메트릭: test.user-batch.size (일괄 조회당 ID 수), test.user-batch.requests{mode=bulk|single}
+ */
+@Slf4j
+public class UserBatchLoader {
+
+    private static final Set<Integer> UNSUPPORTED_STATUSES = Set.of(400, 404, 405, 501);
+
+    private final UserBatchProperties properties;
+    private final Function<List<Long>, Mono<List<UserDto>>> bulkFetch;
+    private final Function<Long, Mono<UserDto>> singleFetch;
+    private final Scheduler scheduler = Schedulers.parallel();
+    private final DistributionSummary batchSize;
+    private final Counter bulkRequests;
+    private final Counter singleRequests;
+
+    private final Object lock = new Object();
+    private Map<Long, List<MonoSink<UserDto>>> pending = new LinkedHashMap<>();
+    private Disposable scheduledFlush;
+    // nanoTime 은 기준점이 임의(음수 가능)이므로 기한 값 대신 플래그로 미지원 여부 표시
+    private volatile boolean bulkUnsupported;
+    private volatile long bulkUnsupportedUntil;
+
+    public UserBatchLoader(UserBatchProperties properties, Function<List<Long>, Mono<List<UserDto>>> bulkFetch,
+                           Function<Long, Mono<UserDto>> singleFetch, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.bulkFetch = bulkFetch;
+        this.singleFetch = singleFetch;
+        this.batchSize = DistributionSummary.builder("test.user-batch.size")
+                .description("일괄 조회 1회당 User ID 수")
+                .register(meterRegistry);
+        this.bulkRequests = Counter.builder("test.user-batch.requests").tag("mode", "bulk").register(meterRegistry);
+        this.singleRequests = Counter.builder("test.user-batch.requests").tag("mode", "single").register(meterRegistry);
+    }
+
+    /**
+     * @return 사용자 Mono (없으면 empty, 조회 실패 시 error)
+     */
+    public Mono<UserDto> load(Long userId) {
+        return Mono.create(sink -> {
+            Map<Long, List<MonoSink<UserDto>>> batch = null;
+            synchronized (lock) {
+                pending.computeIfAbsent(userId, id -> new ArrayList<>(1)).add(sink);
+                if (pending.size() >= properties.getMaxBatchSize()) {
+                    batch = drain();
+                } else if (scheduledFlush == null) {
+                    scheduledFlush = scheduler.schedule(this::flush,
+                            properties.getWindow().toNanos(), TimeUnit.NANOSECONDS);
+                }
+            }
+            if (batch != null) {
+                dispatch(batch);
+            }
+        });
+    }
+
+    private void flush() {
+        Map<Long, List<MonoSink<UserDto>>> batch;
+        synchronized (lock) {
+            scheduledFlush = null;
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = drain();
+        }
+        dispatch(batch);
+    }
+
+    private Map<Long, List<MonoSink<UserDto>>> drain() {
+        Map<Long, List<MonoSink<UserDto>>> batch = pending;
+        pending = new LinkedHashMap<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.dispose();
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void dispatch(Map<Long, List<MonoSink<UserDto>>> batch) {
+        if (batch.size() == 1 || isBulkUnsupported()) {
+            dispatchIndividually(batch);
+            return;
+        }
+
+        batchSize.record(batch.size());
+        bulkRequests.increment();
+        bulkFetch.apply(new ArrayList<>(batch.keySet()))
+                .subscribe(users -> {
+                    Map<Long, UserDto> byId = new LinkedHashMap<>();
+                    for (UserDto user : users) {
+                        byId.put(user.getId(), user);
+                    }
+                    batch.forEach((userId, sinks) -> complete(sinks, byId.get(userId)));
+                }, e -> {
+                    if (e instanceof WebClientResponseException response
+                            && UNSUPPORTED_STATUSES.contains(response.getStatusCode().value())) {
+                        log.warn("User bulk lookup unsupported ({}), falling back to single lookups for {}",
+                                response.getStatusCode(), properties.getUnsupportedRetryAfter());
+                        bulkUnsupportedUntil = System.nanoTime() + properties.getUnsupportedRetryAfter().toNanos();
+                        bulkUnsupported = true;
+                        dispatchIndividually(batch);
+                    } else {
+                        batch.values().forEach(sinks -> sinks.forEach(sink -> sink.error(e)));
+                    }
+                });
+    }
+
+    private boolean isBulkUnsupported() {
+        if (!bulkUnsupported) {
+            return false;
+        }
+        if (System.nanoTime() - bulkUnsupportedUntil < 0) {
+            return true;
+        }
+        bulkUnsupported = false;
+        return false;
+    }
+
+    private void dispatchIndividually(Map<Long, List<MonoSink<UserDto>>> batch) {
+        Flux.fromIterable(batch.entrySet())
+                .flatMap(entry -> {
+                    singleRequests.increment();
+                    return singleFetch.apply(entry.getKey())
+                            .doOnSuccess(user -> complete(entry.getValue(), user))
+                            .doOnError(e -> entry.getValue().forEach(sink -> sink.error(e)))
+                            .onErrorResume(e -> Mono.empty());
+                }, properties.getFallbackConcurrency())
+                .subscribe();
+    }
+
+    private static void complete(List<MonoSink<UserDto>> sinks, UserDto user) {
+        for (MonoSink<UserDto> sink : sinks) {
+            if (user != null) {
+                sink.success(user);
+            } else {
+                sink.success();
+            }
+        }
+    }
+}
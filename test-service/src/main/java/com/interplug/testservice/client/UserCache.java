@@ -0,0 +1,76 @@
+package com.interplug.testservice.client;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.interplug.testservice.config.UserCacheProperties;
+import com.interplug.testservice.dto.UserDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * User 조회 비동기 캐시 (Caffeine AsyncLoadingCache)
+ * - 항목별 TTL: 존재하는 사용자는 ttl, 404 는 negativeTtl 동안 Optional.empty() 로 보관
+ * - refreshAfter 가 지난 항목은 기존 값을 바로 응답하고 백그라운드에서 다시 조회, 재조회 실패 시 기존 값 유지
+ * - 조회 중 오류(타임아웃, 5xx)는 캐시하지 않음
+ * - 메트릭: cache.gets{cache=user-service.users,result=hit|miss}, cache.evictions 등
+ */
+@Slf4j
+public class UserCache {
+
+    static final String CACHE_NAME = "user-service.users";
+
+    private final AsyncLoadingCache<Long, Optional<UserDto>> cache;
+
+    public UserCache(UserCacheProperties properties, Function<Long, Mono<UserDto>> loader,
+                     MeterRegistry meterRegistry) {
+        long ttlNanos = properties.getTtl().toNanos();
+        long negativeTtlNanos = properties.getNegativeTtl().toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfter(new Expiry<Long, Optional<UserDto>>() {
+                    @Override
+                    public long expireAfterCreate(Long userId, Optional<UserDto> user, long currentTime) {
+                        return user.isPresent() ? ttlNanos : negativeTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Long userId, Optional<UserDto> user, long currentTime,
+                                                  long currentDuration) {
+                        return user.isPresent() ? ttlNanos : negativeTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long userId, Optional<UserDto> user, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .refreshAfterWrite(properties.getRefreshAfter())
+                .recordStats()
+                .buildAsync((userId, executor) -> loader.apply(userId)
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty())
+                        .doOnError(e -> log.debug("User {} lookup not cached: {}", userId, e.getMessage()))
+                        .toFuture());
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시 조회 (미스 시 loader 호출, 동시 요청은 하나의 조회를 공유)
+     * @return 사용자 Mono (존재하지 않으면 empty, 조회 실패 시 error)
+     */
+    public Mono<UserDto> get(Long userId) {
+        return Mono.fromFuture(() -> cache.get(userId), true)
+                .flatMap(Mono::justOrEmpty);
+    }
+
+    public void invalidate(Long userId) {
+        cache.synchronous().invalidate(userId);
+    }
+}
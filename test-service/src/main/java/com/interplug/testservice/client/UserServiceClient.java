@@ -1,45 +1,142 @@
 package com.interplug.testservice.client;
 
+import com.interplug.testservice.config.UserBatchProperties;
+import com.interplug.testservice.config.UserCacheProperties;
+import com.interplug.testservice.config.UserClientProperties;
 import com.interplug.testservice.dto.UserDto;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.timelimiter.TimeLimiterOperator;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
-import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 public class UserServiceClient {
 
+    /** resilience4j.circuitbreaker / bulkhead / timelimiter 인스턴스 이름 */
+    public static final String RESILIENCE_INSTANCE = "user-service";
+
     private final WebClient webClient;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final TimeLimiter timeLimiter;
+    private final UserBatchProperties userBatchProperties;
+    private final UserCache userCache;
+    private final Function<Long, Mono<UserDto>> userLoader;
+
+    public UserServiceClient(WebClient.Builder webClientBuilder,
+                             UserClientProperties userClientProperties,
+                             ConnectionProvider userServiceConnectionProvider,
+                             ObjectProvider<ReactorLoadBalancerExchangeFilterFunction> loadBalancerFilter,
+                             UserCacheProperties userCacheProperties,
+                             UserBatchProperties userBatchProperties,
+                             CircuitBreakerRegistry circuitBreakerRegistry,
+                             BulkheadRegistry bulkheadRegistry,
+                             TimeLimiterRegistry timeLimiterRegistry,
+                             InstanceLatencyTracker instanceLatencyTracker,
+                             MeterRegistry meterRegistry) {
+        webClientBuilder
+                .baseUrl(userClientProperties.getBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(userServiceConnectionProvider)));
+        // Gateway 를 거치지 않고 Eureka 에서 고른 user-service 인스턴스로 직접 호출
+        if (userClientProperties.isLoadBalanced()) {
+            ReactorLoadBalancerExchangeFilterFunction filter = loadBalancerFilter.getIfAvailable();
+            if (filter == null) {
+                throw new IllegalStateException("Load-balanced user client requires Spring Cloud LoadBalancer");
+            }
+            // 필터 순서: 로드밸런서(인스턴스 선택 / URL 변경) → 선택된 인스턴스의 응답 시간 / 처리 중 요청 추적
+            webClientBuilder.filter(filter).filter(instanceLatencyTracker);
+        }
+        this.webClient = webClientBuilder.build();
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(RESILIENCE_INSTANCE);
+        this.bulkhead = bulkheadRegistry.bulkhead(RESILIENCE_INSTANCE);
+        this.timeLimiter = timeLimiterRegistry.timeLimiter(RESILIENCE_INSTANCE);
+        this.userBatchProperties = userBatchProperties;
 
-    public UserServiceClient(WebClient.Builder webClientBuilder) {
-        this.webClient = webClientBuilder
-                .baseUrl("http://localhost:8080/api/users")  // Gateway를 통한 라우팅
-                // 또는 Eureka 연동: .baseUrl("http://user-service/api/users")
-                .build();
+        // 캐시 미스는 배칭 로더를 거쳐 동시에 들어온 조회와 함께 일괄 조회
+        Function<Long, Mono<UserDto>> loader = userBatchProperties.isEnabled()
+                ? new UserBatchLoader(userBatchProperties, this::fetchUsers, this::fetchUser, meterRegistry)::load
+                : this::fetchUser;
+        this.userCache = userCacheProperties.isEnabled()
+                ? new UserCache(userCacheProperties, loader, meterRegistry)
+                : null;
+        this.userLoader = userCache != null ? userCache::get : loader;
     }
 
     /**
-     * User ID로 사용자 조회
+     * User ID로 사용자 조회 (user-cache 활성 시 캐시, user-batch 활성 시 일괄 조회 경유)
+     * circuit breaker 가 열려 있어도 캐시 적중 / 갱신 대기(stale) 항목은 그대로 응답하고 미스만 즉시 empty
      * @param userId 사용자 ID
      * @return 사용자 정보 Mono (없으면 empty)
      */
     public Mono<UserDto> getUserById(Long userId) {
-        return webClient.get()
-                .uri("/{id}", userId)
-                .retrieve()
-                .bodyToMono(UserDto.class)
-                .timeout(Duration.ofSeconds(3))
-                .doOnSuccess(user -> log.info("Successfully fetched user: {}", user != null ? user.getName() : "null"))
+        return userLoader.apply(userId)
+                .doOnSuccess(found -> log.info("Successfully fetched user: {}", found != null ? found.getName() : "null"))
                 .onErrorResume(e -> {
                     log.error("Error fetching user {}: {}", userId, e.getMessage());
                     return Mono.empty();  // Fallback: 빈 결과 반환
                 });
     }
 
+    /**
+     * 여러 User 조회 (중복 ID 는 한 번만, 동시 조회는 user-batch 로 묶임)
+     * @param userIds 사용자 ID 목록
+     * @return 찾은 사용자 Flux (순서 보장 없음)
+     */
+    public Flux<UserDto> getUsersByIds(Collection<Long> userIds) {
+        return Flux.fromIterable(userIds)
+                .distinct()
+                .flatMap(this::getUserById);
+    }
+
+    /**
+     * 원격 일괄 조회: GET {bulkPath}?ids=1,2,3
+     */
+    private Mono<List<UserDto>> fetchUsers(List<Long> userIds) {
+        return webClient.get()
+                .uri(builder -> builder.path(userBatchProperties.getBulkPath())
+                        .queryParam("ids", userIds.stream().map(String::valueOf).collect(Collectors.joining(",")))
+                        .build())
+                .retrieve()
+                .bodyToFlux(UserDto.class)
+                .collectList()
+                .transformDeferred(this::protect);
+    }
+
+    /**
+     * 원격 조회: 404 는 empty (캐시에서는 negative 항목), 그 외 오류는 그대로 전파
+     */
+    private Mono<UserDto> fetchUser(Long userId) {
+        return webClient.get()
+                .uri("/{id}", userId)
+                .retrieve()
+                .bodyToMono(UserDto.class)
+                .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.empty())
+                .transformDeferred(this::protect);
+    }
+
     /**
      * 모든 사용자 조회
      * @return 사용자 목록 Flux
@@ -48,7 +145,7 @@ public class UserServiceClient {
         return webClient.get()
                 .retrieve()
                 .bodyToFlux(UserDto.class)
-                .timeout(Duration.ofSeconds(5))
+                .transformDeferred(this::protect)
                 .doOnComplete(() -> log.info("Successfully fetched all users"))
                 .onErrorResume(e -> {
                     log.error("Error fetching all users: {}", e.getMessage());
@@ -66,8 +163,12 @@ public class UserServiceClient {
                 .bodyValue(userDto)
                 .retrieve()
                 .bodyToMono(UserDto.class)
-                .timeout(Duration.ofSeconds(3))
-                .doOnSuccess(user -> log.info("Successfully created user: {}", user.getName()))
+                .transformDeferred(this::protect)
+                .doOnSuccess(user -> {
+                    log.info("Successfully created user: {}", user.getName());
+                    // 생성 전 조회로 남은 negative 항목 제거
+                    invalidate(user.getId());
+                })
                 .onErrorResume(e -> {
                     log.error("Error creating user: {}", e.getMessage());
                     return Mono.empty();
@@ -86,8 +187,9 @@ public class UserServiceClient {
                 .bodyValue(userDto)
                 .retrieve()
                 .bodyToMono(UserDto.class)
-                .timeout(Duration.ofSeconds(3))
+                .transformDeferred(this::protect)
                 .doOnSuccess(user -> log.info("Successfully updated user: {}", user.getName()))
+                .doFinally(signal -> invalidate(userId))
                 .onErrorResume(e -> {
                     log.error("Error updating user {}: {}", userId, e.getMessage());
                     return Mono.empty();
@@ -104,11 +206,34 @@ public class UserServiceClient {
                 .uri("/{id}", userId)
                 .retrieve()
                 .bodyToMono(Void.class)
-                .timeout(Duration.ofSeconds(3))
+                .transformDeferred(this::protect)
                 .doOnSuccess(v -> log.info("Successfully deleted user: {}", userId))
+                .doFinally(signal -> invalidate(userId))
                 .onErrorResume(e -> {
                     log.error("Error deleting user {}: {}", userId, e.getMessage());
                     return Mono.empty();
                 });
     }
-}
\ No newline at end of file
+
+    /**
+     * 원격 호출 보호: bulkhead(동시 호출 제한) → time limiter → circuit breaker 순으로 감쌈
+     * circuit 이 열리면 CallNotPermittedException 으로 즉시 실패해 호출부 fallback 으로 넘어감
+     */
+    private <T> Mono<T> protect(Mono<T> call) {
+        return call.transformDeferred(BulkheadOperator.of(bulkhead))
+                .transformDeferred(TimeLimiterOperator.of(timeLimiter))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+    }
+
+    private <T> Flux<T> protect(Flux<T> call) {
+        return call.transformDeferred(BulkheadOperator.of(bulkhead))
+                .transformDeferred(TimeLimiterOperator.of(timeLimiter))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+    }
+
+    private void invalidate(Long userId) {
+        if (userCache != null && userId != null) {
+            userCache.invalidate(userId);
+        }
+    }
+}
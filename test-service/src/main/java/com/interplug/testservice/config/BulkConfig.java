@@ -0,0 +1,9 @@
+package com.interplug.testservice.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(BulkProperties.class)
+public class BulkConfig {
+}
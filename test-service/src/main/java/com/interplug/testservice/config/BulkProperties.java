@@ -0,0 +1,15 @@
+package com.interplug.testservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 대량 생성 / 수정 / 삭제 설정 (test-service.bulk.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "test-service.bulk")
+public class BulkProperties {
+
+    /** batch statement 하나(= 트랜잭션 하나)로 처리할 항목 수 */
+    private int chunkSize = 500;
+}
@@ -0,0 +1,22 @@
+package com.interplug.testservice.config;
+
+import com.interplug.testservice.event.TestChangeFeed;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Test 변경 SSE 피드 (test-service.change-feed.enabled=true 일 때만)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "test-service.change-feed", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(ChangeFeedProperties.class)
+public class ChangeFeedConfig {
+
+    @Bean(destroyMethod = "close")
+    public TestChangeFeed testChangeFeed(ChangeFeedProperties changeFeedProperties, MeterRegistry meterRegistry) {
+        return new TestChangeFeed(changeFeedProperties, meterRegistry);
+    }
+}
@@ -0,0 +1,36 @@
+package com.interplug.testservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Test 변경 SSE 피드 설정 (test-service.change-feed.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "test-service.change-feed")
+public class ChangeFeedProperties {
+
+    /** GET /api/tests/changes 활성화 여부 */
+    private boolean enabled = true;
+
+    /** 재연결(Last-Event-ID) 시 다시 보내기 위해 보관하는 최근 이벤트 수 */
+    private int replaySize = 10_000;
+
+    /** 구독자별 전송 대기 버퍼 크기 */
+    private int bufferSize = 1_024;
+
+    /** 구독자 버퍼가 가득 찼을 때 정책 */
+    private Overflow overflow = Overflow.LATEST;
+
+    /** 변경이 없을 때 연결 유지용 주석 이벤트 간격 */
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    public enum Overflow {
+        /** 새로 들어온 이벤트를 버림 (버퍼에 있는 오래된 이벤트 유지) */
+        DROP,
+        /** 가장 오래된 이벤트를 버리고 최신 이벤트 유지 */
+        LATEST
+    }
+}
@@ -6,13 +6,18 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 
 import java.time.LocalDateTime;
 
+/**
+ * 기본 초기 데이터 5건 (test-service.seed.enabled=true 이면 TestDataSeeder 가 대신 생성)
+ */
 @Slf4j
 @Component
+@ConditionalOnProperty(prefix = "test-service.seed", name = "enabled", havingValue = "false", matchIfMissing = true)
 @RequiredArgsConstructor
 public class DataInitializer implements ApplicationRunner {
 
@@ -27,30 +32,35 @@ public class DataInitializer implements ApplicationRunner {
                         Test.builder()
                                 .name("WebFlux Reactive Test")
                                 .description("Spring WebFlux를 사용한 반응형 프로그래밍 테스트")
+                                .userId(1L)
                                 .createdAt(now)
                                 .updatedAt(now)
                                 .build(),
                         Test.builder()
                                 .name("R2DBC Integration Test")
                                 .description("R2DBC를 사용한 반응형 데이터베이스 접근 테스트")
+                                .userId(2L)
                                 .createdAt(now)
                                 .updatedAt(now)
                                 .build(),
                         Test.builder()
                                 .name("WebClient Communication Test")
                                 .description("WebClient를 사용한 마이크로서비스 간 통신 테스트")
+                                .userId(3L)
                                 .createdAt(now)
                                 .updatedAt(now)
                                 .build(),
                         Test.builder()
                                 .name("Eureka Discovery Test")
                                 .description("Eureka 서비스 디스커버리를 통한 동적 서비스 찾기 테스트")
+                                .userId(4L)
                                 .createdAt(now)
                                 .updatedAt(now)
                                 .build(),
                         Test.builder()
                                 .name("Reactive Circuit Breaker Test")
                                 .description("Resilience4j를 사용한 반응형 Circuit Breaker 패턴 테스트")
+                                .userId(5L)
                                 .createdAt(now)
                                 .updatedAt(now)
                                 .build()
@@ -0,0 +1,23 @@
+package com.interplug.testservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Test 목록 User 정보 보강 설정 (test-service.enrichment.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "test-service.enrichment")
+public class EnrichmentProperties {
+
+    /** concurrency 파라미터 생략 시 동시에 진행할 User 조회 수 */
+    private int concurrency = 16;
+
+    /** 요청 가능한 최대 동시 User 조회 수 */
+    private int maxConcurrency = 64;
+
+    /** timeoutMs 파라미터 생략 시 요청 전체에 허용하는 User 조회 시간 */
+    private Duration timeoutBudget = Duration.ofSeconds(2);
+}
@@ -0,0 +1,27 @@
+package com.interplug.testservice.config;
+
+import com.interplug.testservice.client.InstanceLatencyTracker;
+import com.interplug.testservice.client.LatencyAwareLoadBalancer;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * 서비스별 LoadBalancer 자식 컨텍스트 설정 (UserClientConfig 의 @LoadBalancerClients 로 등록)
+ * 컴포넌트 스캔으로 메인 컨텍스트에 등록되지 않도록 @Configuration 을 붙이지 않음
+ */
+public class LatencyAwareLoadBalancerConfig {
+
+    @Bean
+    public ReactorLoadBalancer<ServiceInstance> latencyAwareLoadBalancer(Environment environment,
+                                                                         LoadBalancerClientFactory loadBalancerClientFactory,
+                                                                         InstanceLatencyTracker instanceLatencyTracker) {
+        String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        return new LatencyAwareLoadBalancer(
+                loadBalancerClientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class),
+                serviceId, instanceLatencyTracker);
+    }
+}
@@ -0,0 +1,21 @@
+package com.interplug.testservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 목록 조회 keyset 페이지네이션 / NDJSON 스트리밍 설정 (test-service.pagination.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "test-service.pagination")
+public class PaginationProperties {
+
+    /** size 파라미터 생략 시 페이지 크기 */
+    private int defaultSize = 50;
+
+    /** 요청 가능한 최대 페이지 크기 (초과 시 잘라냄) */
+    private int maxSize = 1000;
+
+    /** NDJSON 스트리밍 시 한 번에 조회하는 keyset 페이지 크기 */
+    private int streamFetchSize = 500;
+}
@@ -0,0 +1,24 @@
+package com.interplug.testservice.config;
+
+import com.interplug.testservice.repository.TestRepository;
+import com.interplug.testservice.search.TestSearchService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Test 이름 / 설명 n-gram 검색 인덱스 (test-service.search.enabled=true 일 때만)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "test-service.search", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(SearchProperties.class)
+public class SearchConfig {
+
+    @Bean(destroyMethod = "close")
+    public TestSearchService testSearchService(TestRepository testRepository, SearchProperties searchProperties,
+                                               MeterRegistry meterRegistry) {
+        return new TestSearchService(testRepository, searchProperties, meterRegistry);
+    }
+}
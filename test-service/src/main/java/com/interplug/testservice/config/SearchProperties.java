@@ -0,0 +1,24 @@
+package com.interplug.testservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Test 이름 / 설명 n-gram 검색 인덱스 설정 (test-service.search.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "test-service.search")
+public class SearchProperties {
+
+    /** 인메모리 n-gram 인덱스 사용 여부 (비활성 시 이름 LIKE 검색) */
+    private boolean enabled = false;
+
+    /** n-gram 길이 (2 ~ 4), 이보다 짧은 검색어는 인덱스 문서 전체를 스캔 */
+    private int gramSize = 3;
+
+    /** limit 생략 시 반환할 최대 결과 수 */
+    private int defaultLimit = 100;
+
+    /** 시작 시 인덱스 구축에 사용할 keyset 페이지 크기 */
+    private int buildFetchSize = 1000;
+}
@@ -0,0 +1,32 @@
+package com.interplug.testservice.config;
+
+import com.interplug.testservice.repository.TestRepository;
+import com.interplug.testservice.service.TestDataSeeder;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 벤치마크용 대량 시드
+ * 시드 상태 health(testDataSeeder)는 readiness 그룹에 포함되므로 비활성 시에도 등록 (항상 UP)
+ * test-service.seed.enabled=true 이면 기동 중 비동기로 시작 (DataInitializer 대신)
+ */
+@Configuration
+@EnableConfigurationProperties(SeedProperties.class)
+public class SeedConfig {
+
+    @Bean(destroyMethod = "stop")
+    public TestDataSeeder testDataSeeder(TestRepository testRepository, SeedProperties seedProperties,
+                                         ApplicationEventPublisher eventPublisher) {
+        return new TestDataSeeder(testRepository, seedProperties, eventPublisher);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "test-service.seed", name = "enabled", havingValue = "true")
+    public ApplicationRunner testDataSeederRunner(TestDataSeeder testDataSeeder) {
+        return args -> testDataSeeder.start();
+    }
+}
@@ -0,0 +1,38 @@
+package com.interplug.testservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 벤치마크용 대량 시드 설정 (test-service.seed.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "test-service.seed")
+public class SeedProperties {
+
+    /** 활성화 시 기본 초기 데이터(5건) 대신 rows 건을 생성 */
+    private boolean enabled = false;
+
+    /** 생성할 행 수 */
+    private long rows = 1_000_000;
+
+    /** batch INSERT 한 번에 넣는 행 수 */
+    private int batchSize = 1_000;
+
+    /** 동시에 실행하는 batch INSERT 수 (R2DBC 커넥션 풀 크기 이하) */
+    private int concurrency = 4;
+
+    /** 진행 상황 로그 간격 */
+    private Duration progressInterval = Duration.ofSeconds(5);
+
+    /** 시작 전 기존 행 삭제 여부 */
+    private boolean truncate = true;
+
+    /** 난수 시드 (같은 값이면 같은 데이터 생성) */
+    private long randomSeed = 42;
+
+    /** 담당 User ID 범위 (1..userIdMax, 일부 행은 담당자 없음) */
+    private long userIdMax = 100;
+}
@@ -0,0 +1,24 @@
+package com.interplug.testservice.config;
+
+import com.interplug.testservice.repository.TestRepository;
+import com.interplug.testservice.service.TestCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Test 단건 조회 read-through 캐시 (test-service.test-cache.enabled=true 일 때만)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "test-service.test-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(TestCacheProperties.class)
+public class TestCacheConfig {
+
+    @Bean
+    public TestCache testCache(TestRepository testRepository, TestCacheProperties testCacheProperties,
+                               MeterRegistry meterRegistry) {
+        return new TestCache(testCacheProperties, testRepository::findDtoById, meterRegistry);
+    }
+}
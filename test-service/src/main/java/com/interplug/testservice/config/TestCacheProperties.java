@@ -0,0 +1,23 @@
+package com.interplug.testservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Test 단건 조회 캐시 설정 (test-service.test-cache.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "test-service.test-cache")
+public class TestCacheProperties {
+
+    /** TestService.findById 결과 캐시 사용 여부 */
+    private boolean enabled = true;
+
+    /** 최대 캐시 항목 수 */
+    private long maxSize = 10_000;
+
+    /** 항목 유효 시간 (TestService 를 거치지 않은 DB 변경이 반영되는 최대 지연) */
+    private Duration ttl = Duration.ofMinutes(5);
+}
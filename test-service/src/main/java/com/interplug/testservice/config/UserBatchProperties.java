@@ -0,0 +1,32 @@
+package com.interplug.testservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * User 단건 조회 배칭 설정 (test-service.user-batch.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "test-service.user-batch")
+public class UserBatchProperties {
+
+    /** 동시에 들어온 단건 조회를 모아 일괄 조회로 보낼지 여부 */
+    private boolean enabled = true;
+
+    /** 첫 요청 이후 다른 요청을 기다리는 최대 시간 */
+    private Duration window = Duration.ofMillis(5);
+
+    /** 한 번의 일괄 조회에 담을 최대 ID 수 (도달 시 즉시 전송) */
+    private int maxBatchSize = 100;
+
+    /** 일괄 조회 경로 (baseUrl 기준, ids=1,2,3 쿼리 파라미터) */
+    private String bulkPath = "/batch";
+
+    /** 일괄 조회 미지원(400/404/405/501) 응답 후 다시 시도하기까지 단건 조회로 대체하는 시간 */
+    private Duration unsupportedRetryAfter = Duration.ofMinutes(10);
+
+    /** 단건 조회로 대체할 때 동시 요청 수 */
+    private int fallbackConcurrency = 8;
+}
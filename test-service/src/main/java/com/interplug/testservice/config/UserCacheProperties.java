@@ -0,0 +1,29 @@
+package com.interplug.testservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * User 조회 캐시 설정 (test-service.user-cache.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "test-service.user-cache")
+public class UserCacheProperties {
+
+    /** UserServiceClient.getUserById 결과 캐시 사용 여부 */
+    private boolean enabled = true;
+
+    /** 최대 캐시 항목 수 */
+    private long maxSize = 10_000;
+
+    /** 조회된 사용자 항목 유효 시간 (만료 후에는 다시 조회) */
+    private Duration ttl = Duration.ofMinutes(10);
+
+    /** 이 시간이 지난 항목은 기존 값을 응답하면서 백그라운드에서 다시 조회 (stale-while-revalidate) */
+    private Duration refreshAfter = Duration.ofMinutes(1);
+
+    /** 존재하지 않는 사용자(404) 결과 유효 시간 */
+    private Duration negativeTtl = Duration.ofSeconds(30);
+}
@@ -0,0 +1,38 @@
+package com.interplug.testservice.config;
+
+import com.interplug.testservice.client.InstanceLatencyTracker;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * User 서비스 직접 호출 설정
+ * - Eureka 레지스트리 기반 클라이언트 측 로드밸런싱 (응답 시간 기반 인스턴스 선택)
+ * - 원격 주소(인스턴스)별 커넥션 풀
+ */
+@Configuration
+@EnableConfigurationProperties(UserClientProperties.class)
+@LoadBalancerClients(defaultConfiguration = LatencyAwareLoadBalancerConfig.class)
+public class UserClientConfig {
+
+    @Bean
+    public InstanceLatencyTracker instanceLatencyTracker(UserClientProperties userClientProperties,
+                                                         MeterRegistry meterRegistry) {
+        return new InstanceLatencyTracker(userClientProperties.getLatencyDecay(),
+                userClientProperties.getFailurePenalty(), meterRegistry);
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider userServiceConnectionProvider(UserClientProperties userClientProperties) {
+        return ConnectionProvider.builder("user-service")
+                .maxConnections(userClientProperties.getMaxConnectionsPerInstance())
+                .pendingAcquireMaxCount(userClientProperties.getPendingAcquireMaxCount())
+                .maxIdleTime(userClientProperties.getMaxIdleTime())
+                .evictInBackground(userClientProperties.getMaxIdleTime())
+                .metrics(true)
+                .build();
+    }
+}
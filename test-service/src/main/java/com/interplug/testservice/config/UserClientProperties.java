@@ -0,0 +1,35 @@
+package com.interplug.testservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * User 서비스 호출 설정 (test-service.user-client.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "test-service.user-client")
+public class UserClientProperties {
+
+    /** User API 기본 URL (load-balanced 일 때 호스트는 Eureka 서비스 ID) */
+    private String baseUrl = "http://user-service/api/users";
+
+    /** Eureka 레지스트리 기반 클라이언트 측 로드밸런싱 사용 (false 면 baseUrl 로 직접 호출, 예: Gateway) */
+    private boolean loadBalanced = true;
+
+    /** 인스턴스(원격 주소)별 최대 커넥션 수 */
+    private int maxConnectionsPerInstance = 100;
+
+    /** 커넥션 획득 대기 최대 요청 수 (초과 시 즉시 실패) */
+    private int pendingAcquireMaxCount = 500;
+
+    /** 유휴 커넥션 유지 시간 */
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+
+    /** 인스턴스 응답 시간 EWMA 감쇠 시간 상수 (클수록 과거 응답 시간을 오래 반영) */
+    private Duration latencyDecay = Duration.ofSeconds(10);
+
+    /** 실패한 호출에 부여하는 응답 시간 (실패가 잦은 인스턴스 회피) */
+    private Duration failurePenalty = Duration.ofSeconds(3);
+}
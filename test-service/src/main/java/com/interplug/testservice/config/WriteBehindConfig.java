@@ -0,0 +1,28 @@
+package com.interplug.testservice.config;
+
+import com.interplug.testservice.repository.TestRepository;
+import com.interplug.testservice.service.TestWriteBehindQueue;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+/**
+ * Test 생성 write-behind (test-service.write-behind.enabled=true 일 때만)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "test-service.write-behind", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(WriteBehindProperties.class)
+public class WriteBehindConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public TestWriteBehindQueue testWriteBehindQueue(TestRepository testRepository,
+                                                     TransactionalOperator transactionalOperator,
+                                                     WriteBehindProperties writeBehindProperties,
+                                                     MeterRegistry meterRegistry) {
+        return new TestWriteBehindQueue(testRepository, transactionalOperator, writeBehindProperties,
+                meterRegistry);
+    }
+}
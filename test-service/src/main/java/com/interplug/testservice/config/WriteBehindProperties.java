@@ -0,0 +1,29 @@
+package com.interplug.testservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Test 생성 write-behind 설정 (test-service.write-behind.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "test-service.write-behind")
+public class WriteBehindProperties {
+
+    /** 활성화 시 POST /api/tests 생성 요청을 큐에 모아 batch INSERT */
+    private boolean enabled = false;
+
+    /** 대기 큐 크기 (가득 차면 즉시 거절 → 503) */
+    private int queueCapacity = 10_000;
+
+    /** 한 번에 INSERT 할 최대 건수 */
+    private int batchSize = 500;
+
+    /** 첫 요청 이후 batch를 채우기 위해 기다리는 최대 시간 */
+    private Duration flushInterval = Duration.ofMillis(10);
+
+    /** batch INSERT 타임아웃 */
+    private Duration flushTimeout = Duration.ofSeconds(10);
+}
@@ -1,9 +1,17 @@
 package com.interplug.testservice.controller;
 
 import com.interplug.testservice.client.UserServiceClient;
+import com.interplug.testservice.dto.BulkResultDto;
+import com.interplug.testservice.dto.TestChangeDto;
 import com.interplug.testservice.dto.TestDto;
+import com.interplug.testservice.dto.TestPageDto;
+import com.interplug.testservice.dto.TestWithUserDto;
 import com.interplug.testservice.dto.UserDto;
+import com.interplug.testservice.event.TestChangeFeed;
+import com.interplug.testservice.service.TestEnrichmentService;
 import com.interplug.testservice.service.TestService;
+import com.interplug.testservice.service.TestVersionConflictException;
+import com.interplug.testservice.service.WriteBehindRejectedException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,12 +21,19 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.List;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/tests")
@@ -28,18 +43,62 @@ public class TestController {
 
     private final TestService testService;
     private final UserServiceClient userServiceClient;
+    private final TestEnrichmentService testEnrichmentService;
+    private final ObjectProvider<TestChangeFeed> testChangeFeed;
 
     @PostMapping
     @Operation(summary = "Test 생성", description = "새로운 Test를 생성합니다")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Test 생성 성공",
                     content = @Content(schema = @Schema(implementation = TestDto.class))),
-            @ApiResponse(responseCode = "400", description = "잘못된 요청")
+            @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @ApiResponse(responseCode = "503", description = "write-behind 큐 포화 (잠시 후 재시도)")
     })
     public Mono<ResponseEntity<TestDto>> createTest(@RequestBody TestDto testDto) {
         log.info("Creating new Test: {}", testDto.getName());
         return testService.create(testDto)
-                .map(created -> ResponseEntity.status(HttpStatus.CREATED).body(created));
+                .map(created -> ResponseEntity.status(HttpStatus.CREATED).body(created))
+                .onErrorResume(IllegalArgumentException.class, e -> {
+                    log.warn("Invalid Test creation: {}", e.getMessage());
+                    return Mono.just(ResponseEntity.badRequest().build());
+                })
+                .onErrorResume(WriteBehindRejectedException.class, e -> {
+                    log.warn("Rejected Test creation: {}", e.getMessage());
+                    return Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                            .header(HttpHeaders.RETRY_AFTER, "1")
+                            .build());
+                });
+    }
+
+    @PostMapping(path = "/bulk",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Test 대량 생성",
+            description = "JSON 배열 또는 NDJSON 스트림으로 받은 Test를 batch INSERT 하고 항목별 결과를 스트리밍합니다")
+    @ApiResponse(responseCode = "200", description = "항목별 결과 (CREATED / FAILED)")
+    public Flux<BulkResultDto> bulkCreateTests(@RequestBody Flux<TestDto> testDtos) {
+        log.info("Bulk creating Tests");
+        return testService.bulkCreate(testDtos);
+    }
+
+    @PutMapping(path = "/bulk",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Test 대량 수정", description = "id가 포함된 Test 목록을 batch UPDATE 하고 항목별 결과를 스트리밍합니다")
+    @ApiResponse(responseCode = "200", description = "항목별 결과 (UPDATED / NOT_FOUND / FAILED)")
+    public Flux<BulkResultDto> bulkUpdateTests(@RequestBody Flux<TestDto> testDtos) {
+        log.info("Bulk updating Tests");
+        return testService.bulkUpdate(testDtos);
+    }
+
+    @DeleteMapping(path = "/bulk",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Test 대량 삭제", description = "ID 목록을 batch DELETE 하고 항목별 결과를 스트리밍합니다")
+    @ApiResponse(responseCode = "200", description = "항목별 결과 (DELETED / NOT_FOUND / FAILED)")
+    public Flux<BulkResultDto> bulkDeleteTests(@RequestBody Flux<Long> ids) {
+        log.info("Bulk deleting Tests");
+        return testService.bulkDelete(ids);
     }
 
     @GetMapping("/{id}")
@@ -69,14 +128,81 @@ public class TestController {
         return testService.findAll();
     }
 
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "모든 Test 스트리밍", description = "모든 Test를 id 순으로 NDJSON 스트리밍합니다 (backpressure 적용)")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    public Flux<TestDto> streamAllTests() {
+        log.info("Streaming all Tests");
+        return testService.streamAll();
+    }
+
+    @GetMapping("/page")
+    @Operation(summary = "Test 페이지 조회", description = "id 기준 keyset 페이지네이션으로 Test 목록을 조회합니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = TestPageDto.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서")
+    })
+    public Mono<ResponseEntity<TestPageDto>> getTestPage(
+            @Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대값 초과 시 최대값 적용)")
+            @RequestParam(required = false) Integer size) {
+        log.info("Fetching Test page after cursor: {}", cursor);
+        return testService.findPage(cursor, size)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> {
+                    log.warn("Invalid page request: {}", e.getMessage());
+                    return Mono.just(ResponseEntity.badRequest().build());
+                });
+    }
+
     @GetMapping("/search")
-    @Operation(summary = "Test 검색", description = "키워드로 Test를 검색합니다")
+    @Operation(summary = "Test 검색",
+            description = "키워드로 Test를 검색합니다 (검색 인덱스 활성 시 이름 / 설명 n-gram 검색, 점수순)")
     @ApiResponse(responseCode = "200", description = "검색 성공")
     public Flux<TestDto> searchTests(
-            @Parameter(description = "검색 키워드", required = true)
-            @RequestParam String keyword) {
+            @Parameter(description = "검색 키워드 (공백으로 구분된 단어는 모두 포함)", required = true)
+            @RequestParam String keyword,
+            @Parameter(description = "최대 결과 수")
+            @RequestParam(required = false) Integer limit) {
         log.info("Searching Tests with keyword: {}", keyword);
-        return testService.findByNameContaining(keyword);
+        return testService.search(keyword, limit);
+    }
+
+    @GetMapping(path = "/search", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Test 검색 스트리밍",
+            description = "키워드 검색 결과(JSON 검색과 같은 조건)를 id 순으로 NDJSON 스트리밍합니다")
+    @ApiResponse(responseCode = "200", description = "검색 성공")
+    public Flux<TestDto> streamSearchTests(
+            @Parameter(description = "검색 키워드 (공백으로 구분된 단어는 모두 포함)", required = true)
+            @RequestParam String keyword) {
+        log.info("Streaming Tests with keyword: {}", keyword);
+        return testService.streamSearch(keyword);
+    }
+
+    @GetMapping("/search/page")
+    @Operation(summary = "Test 검색 페이지 조회",
+            description = "키워드 검색 결과(JSON 검색과 같은 조건)를 id 기준 keyset 페이지네이션으로 조회합니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "검색 성공",
+                    content = @Content(schema = @Schema(implementation = TestPageDto.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서")
+    })
+    public Mono<ResponseEntity<TestPageDto>> searchTestPage(
+            @Parameter(description = "검색 키워드", required = true)
+            @RequestParam String keyword,
+            @Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대값 초과 시 최대값 적용)")
+            @RequestParam(required = false) Integer size) {
+        log.info("Searching Test page with keyword: {} after cursor: {}", keyword, cursor);
+        return testService.searchPage(keyword, cursor, size)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> {
+                    log.warn("Invalid page request: {}", e.getMessage());
+                    return Mono.just(ResponseEntity.badRequest().build());
+                });
     }
 
     @PutMapping("/{id}")
@@ -84,7 +210,9 @@ public class TestController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "수정 성공",
                     content = @Content(schema = @Schema(implementation = TestDto.class))),
-            @ApiResponse(responseCode = "404", description = "Test를 찾을 수 없음")
+            @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @ApiResponse(responseCode = "404", description = "Test를 찾을 수 없음"),
+            @ApiResponse(responseCode = "409", description = "버전 불일치 (다른 요청이 먼저 수정함)")
     })
     public Mono<ResponseEntity<TestDto>> updateTest(
             @Parameter(description = "수정할 Test의 ID", required = true)
@@ -93,6 +221,14 @@ public class TestController {
         log.info("Updating Test with ID: {}", id);
         return testService.update(id, testDto)
                 .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> {
+                    log.warn("Invalid Test update: {}", e.getMessage());
+                    return Mono.just(ResponseEntity.badRequest().build());
+                })
+                .onErrorResume(TestVersionConflictException.class, e -> {
+                    log.warn("Conflict updating test: {}", e.getMessage());
+                    return Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).build());
+                })
                 .onErrorResume(e -> {
                     log.error("Error updating test: {}", e.getMessage());
                     return Mono.just(ResponseEntity.notFound().build());
@@ -103,14 +239,21 @@ public class TestController {
     @Operation(summary = "Test 삭제", description = "Test를 삭제합니다")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "삭제 성공"),
-            @ApiResponse(responseCode = "404", description = "Test를 찾을 수 없음")
+            @ApiResponse(responseCode = "404", description = "Test를 찾을 수 없음"),
+            @ApiResponse(responseCode = "409", description = "버전 불일치 (다른 요청이 먼저 수정함)")
     })
     public Mono<ResponseEntity<Void>> deleteTest(
             @Parameter(description = "삭제할 Test의 ID", required = true)
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            @Parameter(description = "지정 시 해당 버전일 때만 삭제")
+            @RequestParam(required = false) Long version) {
         log.info("Deleting Test with ID: {}", id);
-        return testService.delete(id)
+        return testService.delete(id, version)
                 .then(Mono.just(ResponseEntity.noContent().<Void>build()))
+                .onErrorResume(TestVersionConflictException.class, e -> {
+                    log.warn("Conflict deleting test: {}", e.getMessage());
+                    return Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).build());
+                })
                 .onErrorResume(e -> {
                     log.error("Error deleting test: {}", e.getMessage());
                     return Mono.just(ResponseEntity.notFound().build());
@@ -133,23 +276,78 @@ public class TestController {
             @PathVariable Long userId) {
         log.info("Fetching Test {} with User {}", testId, userId);
 
-        return testService.findById(testId)
-                .doOnNext(test -> log.info("Found Test: {}", test.getName()))
-                .flatMap(test -> userServiceClient.getUserById(userId))
-                .map(ResponseEntity::ok)
+        // Test 와 User 를 동시에 조회 (Test 가 없으면 User 결과와 무관하게 실패)
+        return Mono.zip(
+                        testService.findById(testId)
+                                .doOnNext(test -> log.info("Found Test: {}", test.getName())),
+                        userServiceClient.getUserById(userId))
+                .map(tuple -> ResponseEntity.ok(tuple.getT2()))
                 .onErrorResume(e -> {
                     log.error("Error fetching test or user: {}", e.getMessage());
                     return Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
                 });
     }
 
+    @GetMapping(path = "/with-users", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "User 정보가 포함된 Test 목록",
+            description = "모든 Test를 스트리밍하면서 담당 User를 병렬로 조회해 함께 반환합니다 (시간 예산 초과 시 User 생략)")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    public Flux<TestWithUserDto> getTestsWithUsers(
+            @Parameter(description = "Test id 순서 유지 여부 (false 면 User 조회 완료 순)")
+            @RequestParam(defaultValue = "true") boolean ordered,
+            @Parameter(description = "동시 User 조회 수")
+            @RequestParam(required = false) Integer concurrency,
+            @Parameter(description = "요청 전체 User 조회 시간 예산 (ms)")
+            @RequestParam(required = false) Long timeoutMs) {
+        log.info("Fetching Tests with Users (ordered: {}, concurrency: {})", ordered, concurrency);
+        return testEnrichmentService.findAllWithUsers(ordered, concurrency,
+                timeoutMs != null ? Duration.ofMillis(timeoutMs) : null);
+    }
+
+    @GetMapping(path = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Test 변경 피드",
+            description = "Test 생성 / 수정 / 삭제를 SSE로 전송합니다 (재연결 시 Last-Event-ID 이후부터, 보관 범위를 벗어나면 RESET)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "구독 성공"),
+            @ApiResponse(responseCode = "404", description = "변경 피드 비활성")
+    })
+    public ResponseEntity<Flux<ServerSentEvent<TestChangeDto>>> getTestChanges(
+            @Parameter(description = "마지막으로 받은 이벤트 id (EventSource 재연결 시 자동 전송)")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @Parameter(description = "마지막으로 받은 이벤트 id (헤더를 지정할 수 없는 첫 연결용)")
+            @RequestParam(required = false) String lastEventId) {
+        TestChangeFeed feed = testChangeFeed.getIfAvailable();
+        if (feed == null) {
+            return ResponseEntity.notFound().build();
+        }
+        String after = lastEventIdHeader != null ? lastEventIdHeader : lastEventId;
+        log.info("Subscribing to Test changes after event: {}", after);
+        Flux<ServerSentEvent<TestChangeDto>> changes = feed.changes(after)
+                .map(change -> ServerSentEvent.builder(change)
+                        .id(change.getEventId())
+                        .event(change.getType().name().toLowerCase())
+                        .build());
+        // 변경이 없어도 연결이 끊기지 않도록 주석 이벤트를 섞고, 피드가 끝나면 함께 종료
+        // prefetch 1: 구독자별 버퍼는 TestChangeFeed 의 bufferSize 로만 제한
+        return ResponseEntity.ok(changes.publish(shared -> Flux.merge(1, shared,
+                Flux.interval(feed.heartbeatInterval())
+                        .map(tick -> ServerSentEvent.<TestChangeDto>builder().comment("keepalive").build())
+                        .takeUntilOther(shared.ignoreElements())), 1));
+    }
+
     @GetMapping("/users")
-    @Operation(summary = "모든 User 조회", description = "WebClient를 통해 User 서비스의 모든 사용자를 조회합니다")
+    @Operation(summary = "User 조회", description = "WebClient를 통해 User 서비스의 사용자를 조회합니다 (ids 지정 시 해당 사용자만 일괄 조회)")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "503", description = "User 서비스 불가능")
     })
-    public Flux<UserDto> getAllUsersViaWebClient() {
+    public Flux<UserDto> getAllUsersViaWebClient(
+            @Parameter(description = "조회할 User ID 목록 (생략 시 전체, 지정 시 일괄 조회)")
+            @RequestParam(required = false) List<Long> ids) {
+        if (ids != null && !ids.isEmpty()) {
+            log.info("Fetching {} users via WebClient", ids.size());
+            return userServiceClient.getUsersByIds(ids);
+        }
         log.info("Fetching all users via WebClient");
         return userServiceClient.getAllUsers()
                 .doOnComplete(() -> log.info("Completed fetching users"));
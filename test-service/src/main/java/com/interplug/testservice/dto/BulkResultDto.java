@@ -0,0 +1,41 @@
+package com.interplug.testservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "대량 처리 항목별 결과")
+public class BulkResultDto {
+
+    @Schema(description = "요청 본문에서의 항목 순번 (0부터)", example = "0")
+    private long index;
+
+    @Schema(description = "Test ID", example = "1")
+    private Long id;
+
+    @Schema(description = "처리 결과", example = "CREATED")
+    private Status status;
+
+    @Schema(description = "실패 사유", example = "name is required")
+    private String error;
+
+    public enum Status {
+        CREATED, UPDATED, DELETED, NOT_FOUND, FAILED
+    }
+
+    public static BulkResultDto of(long index, Long id, Status status) {
+        return BulkResultDto.builder().index(index).id(id).status(status).build();
+    }
+
+    public static BulkResultDto failed(long index, Long id, String error) {
+        return BulkResultDto.builder().index(index).id(id).status(Status.FAILED).error(error).build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.interplug.testservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Test 변경 이벤트 (GET /api/tests/changes)")
+public class TestChangeDto {
+
+    @Schema(description = "이벤트 id \"<기동 epoch>-<순번>\" (SSE id, 재연결 시 Last-Event-ID 로 전달)",
+            example = "1760000000000-42")
+    private String eventId;
+
+    @Schema(description = "변경 종류 (RESET: 요청한 id 이후 이벤트를 이어서 보낼 수 없음, 전체 목록 재조회 필요)",
+            example = "UPDATED")
+    private Type type;
+
+    @Schema(description = "Test ID", example = "1")
+    private Long testId;
+
+    @Schema(description = "변경 후 Test (삭제 시 생략, 대량 수정은 createdAt / version 생략)")
+    private TestDto test;
+
+    public enum Type {
+        CREATED, UPDATED, DELETED, RESET
+    }
+}
@@ -1,5 +1,6 @@
 package com.interplug.testservice.dto;
 
+import com.interplug.testservice.entity.Test;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -24,9 +25,20 @@ public class TestDto {
     @Schema(description = "Test 설명", example = "테스트 설명입니다")
     private String description;
 
+    @Schema(description = "담당 User ID", example = "1")
+    private Long userId;
+
     @Schema(description = "생성 일시", example = "2024-01-01T10:00:00")
     private LocalDateTime createdAt;
 
     @Schema(description = "수정 일시", example = "2024-01-01T12:00:00")
     private LocalDateTime updatedAt;
+
+    @Schema(description = "버전 (수정 / 삭제 시 지정하면 낙관적 잠금, 불일치 시 409)", example = "0")
+    private Long version;
+
+    public static TestDto from(Test test) {
+        return new TestDto(test.getId(), test.getName(), test.getDescription(), test.getUserId(),
+                test.getCreatedAt(), test.getUpdatedAt(), test.getVersion());
+    }
 }
\ No newline at end of file
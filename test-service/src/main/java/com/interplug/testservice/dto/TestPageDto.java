@@ -0,0 +1,26 @@
+package com.interplug.testservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Test keyset 페이지")
+public class TestPageDto {
+
+    @Schema(description = "id 오름차순 Test 목록")
+    private List<TestDto> items;
+
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "aWQ6NTA")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+}
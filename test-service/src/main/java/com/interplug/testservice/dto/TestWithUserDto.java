@@ -0,0 +1,27 @@
+package com.interplug.testservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "User 정보가 포함된 Test")
+public class TestWithUserDto {
+
+    @Schema(description = "Test")
+    private TestDto test;
+
+    @Schema(description = "담당 User (userId 가 없거나 조회 실패 / 시간 초과 시 생략)")
+    private UserDto user;
+
+    public static TestWithUserDto of(TestDto test, UserDto user) {
+        return new TestWithUserDto(test, user);
+    }
+}
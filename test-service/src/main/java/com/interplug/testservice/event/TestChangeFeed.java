@@ -0,0 +1,145 @@
+package com.interplug.testservice.event;
+
+import com.interplug.testservice.config.ChangeFeedProperties;
+import com.interplug.testservice.dto.TestChangeDto;
+import com.interplug.testservice.dto.TestDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import reactor.core.Disposable;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+
+/**
+ * Test 변경 피드 (GET /api/tests/changes, SSE)
+ * - TestChangedEvent 에 "<기동 epoch>-<순번>" id 를 붙여 multicast sink 로 발행하고 최근 replaySize 개를 보관
+ * - 구독자마다 bufferSize 크기의 버퍼, 가득 차면 overflow 정책(DROP / LATEST)에 따라 버림 (다른 구독자나 발행 측은 막지 않음)
+ * - Last-Event-ID 재연결 시 보관 중인 이후 이벤트부터 전송
+ *   보관 범위를 벗어났거나 다른 기동(재시작 / 다른 인스턴스)의 id 면 RESET 이벤트 전송
+ * - 메트릭: test.change-feed.subscribers, test.change-feed.dropped
+ */
+@Slf4j
+public class TestChangeFeed {
+
+    private final ChangeFeedProperties properties;
+    private final Sinks.Many<TestChangeDto> sink = Sinks.many().multicast().directBestEffort();
+    // 기동 시각: 재시작하면 순번이 1부터 다시 시작하므로 id 에 포함해 이전 기동의 id 와 구분
+    private final long epoch = System.currentTimeMillis();
+    private final ArrayDeque<Retained> replay;
+    private final Counter droppedCounter;
+
+    // 순번 부여 / 보관 / 발행과 재연결 시 보관분 전송 + 구독을 같은 락으로 묶어 누락 / 중복 방지
+    private final Object lock = new Object();
+    private long lastSequence;
+
+    public TestChangeFeed(ChangeFeedProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.replay = new ArrayDeque<>(properties.getReplaySize());
+        this.droppedCounter = Counter.builder("test.change-feed.dropped")
+                .description("구독자 버퍼 초과로 버린 변경 이벤트 수")
+                .tag("overflow", properties.getOverflow().name().toLowerCase())
+                .register(meterRegistry);
+        Gauge.builder("test.change-feed.subscribers", sink, Sinks.Many::currentSubscriberCount)
+                .description("변경 피드 구독자 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onTestChanged(TestChangedEvent event) {
+        synchronized (lock) {
+            long sequence = ++lastSequence;
+            TestChangeDto change = TestChangeDto.builder()
+                    .eventId(eventId(sequence))
+                    .type(TestChangeDto.Type.valueOf(event.type().name()))
+                    .testId(event.id())
+                    .test(event.test() != null ? TestDto.from(event.test()) : null)
+                    .build();
+            if (replay.size() == properties.getReplaySize()) {
+                replay.pollFirst();
+            }
+            replay.addLast(new Retained(sequence, change));
+            // 구독자가 없으면 FAIL_ZERO_SUBSCRIBER, 보관분은 재연결 시 전송
+            sink.tryEmitNext(change);
+        }
+    }
+
+    /**
+     * @param afterEventId 클라이언트가 마지막으로 받은 이벤트 id (null 이면 이후 변경만)
+     */
+    public Flux<TestChangeDto> changes(String afterEventId) {
+        Flux<TestChangeDto> source = Flux.create(emitter -> {
+            Disposable live;
+            synchronized (lock) {
+                if (afterEventId != null) {
+                    replayAfter(afterEventId).forEach(emitter::next);
+                }
+                live = sink.asFlux().subscribe(emitter::next, emitter::error, emitter::complete);
+            }
+            emitter.onDispose(live);
+        }, FluxSink.OverflowStrategy.BUFFER);
+
+        BufferOverflowStrategy strategy = properties.getOverflow() == ChangeFeedProperties.Overflow.DROP
+                ? BufferOverflowStrategy.DROP_LATEST
+                : BufferOverflowStrategy.DROP_OLDEST;
+        return source
+                .onBackpressureBuffer(properties.getBufferSize(), dropped -> {
+                    droppedCounter.increment();
+                    log.debug("Dropped change event {} for slow subscriber", dropped.getEventId());
+                }, strategy);
+    }
+
+    public Duration heartbeatInterval() {
+        return properties.getHeartbeatInterval();
+    }
+
+    public void close() {
+        synchronized (lock) {
+            sink.tryEmitComplete();
+        }
+    }
+
+    private List<TestChangeDto> replayAfter(String afterEventId) {
+        long oldest = replay.isEmpty() ? lastSequence + 1 : replay.peekFirst().sequence();
+        long after = sequenceOf(afterEventId);
+        // 다른 기동의 id 이거나, 보관 범위보다 오래됐거나, 아직 발행하지 않은 순번이면 전체 재조회 요청
+        if (after < 0 || after < oldest - 1 || after > lastSequence) {
+            log.info("Change feed cannot resume after event {} (retained {}..{}), sending RESET",
+                    afterEventId, eventId(oldest), eventId(lastSequence));
+            return List.of(TestChangeDto.builder()
+                    .eventId(eventId(lastSequence))
+                    .type(TestChangeDto.Type.RESET)
+                    .build());
+        }
+        return replay.stream().filter(retained -> retained.sequence() > after).map(Retained::change).toList();
+    }
+
+    private String eventId(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    /**
+     * 이번 기동에서 발행한 형식의 id 면 순번, 아니면 -1
+     */
+    private long sequenceOf(String eventId) {
+        int dash = eventId.indexOf('-');
+        if (dash <= 0 || !eventId.substring(0, dash).equals(Long.toString(epoch))) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(dash + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private record Retained(long sequence, TestChangeDto change) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.interplug.testservice.event;
+
+import com.interplug.testservice.entity.Test;
+
+/**
+ * Test 생성 / 수정 / 삭제 이벤트 (커밋 이후 TestService 에서 발행)
+ *
+ * @param type 변경 종류
+ * @param id   Test ID
+ * @param test 변경 후 엔티티 (삭제 시 null, 대량 수정에서는 createdAt 없음)
+ */
+public record TestChangedEvent(Type type, long id, Test test) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static TestChangedEvent created(Test test) {
+        return new TestChangedEvent(Type.CREATED, test.getId(), test);
+    }
+
+    public static TestChangedEvent updated(Test test) {
+        return new TestChangedEvent(Type.UPDATED, test.getId(), test);
+    }
+
+    public static TestChangedEvent deleted(long id) {
+        return new TestChangedEvent(Type.DELETED, id, null);
+    }
+}
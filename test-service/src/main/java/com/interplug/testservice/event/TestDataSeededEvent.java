@@ -0,0 +1,12 @@
+package com.interplug.testservice.event;
+
+import java.time.Duration;
+
+/**
+ * 대량 시드 완료 이벤트 (TestDataSeeder, 행별 TestChangedEvent 는 발행하지 않음)
+ *
+ * @param rows    INSERT 한 행 수
+ * @param elapsed 소요 시간
+ */
+public record TestDataSeededEvent(long rows, Duration elapsed) {
+}
@@ -0,0 +1,30 @@
+package com.interplug.testservice.repository;
+
+import com.interplug.testservice.entity.Test;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * 여러 행을 하나의 R2DBC batch statement(Statement.add)로 처리하는 TestRepository 확장
+ * 결과는 입력 순서대로 반환
+ */
+public interface TestBatchRepository {
+
+    /**
+     * @return 생성된 id (입력 순서)
+     */
+    Flux<Long> batchInsert(List<Test> tests);
+
+    /**
+     * name / description / userId / updatedAt 갱신, version 1 증가 (버전 검사 없음)
+     *
+     * @return 행별 변경 건수 (0이면 해당 id 없음)
+     */
+    Flux<Long> batchUpdate(List<Test> tests);
+
+    /**
+     * @return id별 삭제 건수 (0이면 해당 id 없음)
+     */
+    Flux<Long> batchDelete(List<Long> ids);
+}
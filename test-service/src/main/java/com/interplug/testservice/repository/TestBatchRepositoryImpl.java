@@ -0,0 +1,88 @@
+package com.interplug.testservice.repository;
+
+import com.interplug.testservice.entity.Test;
+import io.r2dbc.spi.Statement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * TestBatchRepository 구현 (DatabaseClient 커넥션을 사용하므로 진행 중인 트랜잭션에 참여)
+ */
+@RequiredArgsConstructor
+public class TestBatchRepositoryImpl implements TestBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO tests (name, description, user_id, created_at, updated_at) VALUES ($1, $2, $3, $4, $5)";
+    private static final String UPDATE_SQL =
+            "UPDATE tests SET name = $1, description = $2, user_id = $3, updated_at = $4, version = version + 1 WHERE id = $5";
+    private static final String DELETE_SQL = "DELETE FROM tests WHERE id = $1";
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Flux<Long> batchInsert(List<Test> tests) {
+        return databaseClient.inConnectionMany(connection -> {
+            Statement statement = connection.createStatement(INSERT_SQL);
+            for (int i = 0; i < tests.size(); i++) {
+                if (i > 0) {
+                    statement.add();
+                }
+                Test test = tests.get(i);
+                statement.bind(0, test.getName());
+                bindNullable(statement, 1, test.getDescription(), String.class);
+                bindNullable(statement, 2, test.getUserId(), Long.class);
+                statement.bind(3, test.getCreatedAt());
+                statement.bind(4, test.getUpdatedAt());
+            }
+            statement.returnGeneratedValues("id");
+            return Flux.from(statement.execute())
+                    .concatMap(result -> result.map((row, metadata) -> row.get("id", Long.class)));
+        });
+    }
+
+    @Override
+    public Flux<Long> batchUpdate(List<Test> tests) {
+        return databaseClient.inConnectionMany(connection -> {
+            Statement statement = connection.createStatement(UPDATE_SQL);
+            for (int i = 0; i < tests.size(); i++) {
+                if (i > 0) {
+                    statement.add();
+                }
+                Test test = tests.get(i);
+                statement.bind(0, test.getName());
+                bindNullable(statement, 1, test.getDescription(), String.class);
+                bindNullable(statement, 2, test.getUserId(), Long.class);
+                statement.bind(3, test.getUpdatedAt());
+                statement.bind(4, test.getId());
+            }
+            return Flux.from(statement.execute())
+                    .concatMap(result -> Flux.from(result.getRowsUpdated()));
+        });
+    }
+
+    @Override
+    public Flux<Long> batchDelete(List<Long> ids) {
+        return databaseClient.inConnectionMany(connection -> {
+            Statement statement = connection.createStatement(DELETE_SQL);
+            for (int i = 0; i < ids.size(); i++) {
+                if (i > 0) {
+                    statement.add();
+                }
+                statement.bind(0, ids.get(i));
+            }
+            return Flux.from(statement.execute())
+                    .concatMap(result -> Flux.from(result.getRowsUpdated()));
+        });
+    }
+
+    private static void bindNullable(Statement statement, int index, Object value, Class<?> type) {
+        if (value != null) {
+            statement.bind(index, value);
+        } else {
+            statement.bindNull(index, type);
+        }
+    }
+}
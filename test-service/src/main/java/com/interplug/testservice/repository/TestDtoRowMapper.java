@@ -0,0 +1,34 @@
+package com.interplug.testservice.repository;
+
+import com.interplug.testservice.dto.TestDto;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+
+import java.time.LocalDateTime;
+import java.util.function.BiFunction;
+
+/**
+ * tests 행을 TestDto 로 직접 매핑 (엔티티 / 리플렉션 기반 컨버터 / 빌더를 거치지 않음)
+ * 컬럼은 이름 조회 대신 COLUMNS 순서의 인덱스로 읽으므로 SELECT 절은 반드시 COLUMNS 를 사용
+ */
+public final class TestDtoRowMapper implements BiFunction<Row, RowMetadata, TestDto> {
+
+    public static final String COLUMNS = "id, name, description, user_id, created_at, updated_at, version";
+
+    public static final TestDtoRowMapper INSTANCE = new TestDtoRowMapper();
+
+    private TestDtoRowMapper() {
+    }
+
+    @Override
+    public TestDto apply(Row row, RowMetadata metadata) {
+        return new TestDto(
+                row.get(0, Long.class),
+                row.get(1, String.class),
+                row.get(2, String.class),
+                row.get(3, Long.class),
+                row.get(4, LocalDateTime.class),
+                row.get(5, LocalDateTime.class),
+                row.get(6, Long.class));
+    }
+}
@@ -0,0 +1,51 @@
+package com.interplug.testservice.repository;
+
+import com.interplug.testservice.dto.TestDto;
+import com.interplug.testservice.entity.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * projection: 행을 응답 타입(TestDto)으로 바로 매핑하는 TestRepository 확장
+ * 엔티티 변환 없이 읽는 경로와 변경된 행을 돌려받는 단일 UPDATE 에서 사용
+ */
+public interface TestProjectionRepository {
+
+    Mono<TestDto> findDtoById(long id);
+
+    /**
+     * @return ids 에 해당하는 행 (순서 보장 없음)
+     */
+    Flux<TestDto> findDtosByIdIn(Collection<Long> ids);
+
+    Flux<TestDto> findAllDtos();
+
+    Flux<TestDto> findDtosByNameContaining(String keyword);
+
+    /**
+     * 모든 term 이 이름 또는 설명에 포함된 행 (대소문자 무시, TestSearchIndex 와 같은 조건)
+     *
+     * @param terms 소문자로 정규화된 검색 단어 (비어 있으면 결과 없음)
+     */
+    Flux<TestDto> findDtosContainingAllTerms(List<String> terms);
+
+    /**
+     * keyset 페이지: afterId 보다 큰 id를 id 순으로 limit 건
+     */
+    Flux<TestDto> findDtoPageAfter(long afterId, int limit);
+
+    Flux<TestDto> findDtoPageByNameContainingAfter(String keyword, long afterId, int limit);
+
+    Flux<TestDto> findDtoPageContainingAllTermsAfter(List<String> terms, long afterId, int limit);
+
+    /**
+     * 단일 UPDATE 문으로 name / description / userId / updatedAt 갱신 후 변경된 행 반환 (version 1 증가)
+     * test.version 이 있으면 해당 버전일 때만 갱신 (낙관적 잠금)
+     *
+     * @return 변경된 행 (id가 없거나 버전이 다르면 empty)
+     */
+    Mono<TestDto> updateReturning(Test test);
+}
@@ -0,0 +1,150 @@
+package com.interplug.testservice.repository;
+
+import com.interplug.testservice.dto.TestDto;
+import com.interplug.testservice.entity.Test;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * TestProjectionRepository 구현 (DatabaseClient + TestDtoRowMapper)
+ */
+@RequiredArgsConstructor
+public class TestProjectionRepositoryImpl implements TestProjectionRepository {
+
+    private static final String SELECT = "SELECT " + TestDtoRowMapper.COLUMNS + " FROM tests";
+
+    // H2 data change delta table: UPDATE 와 변경 후 행 조회를 한 문장으로 (PostgreSQL 의 UPDATE ... RETURNING)
+    private static final String UPDATE = "SELECT " + TestDtoRowMapper.COLUMNS + " FROM FINAL TABLE ("
+            + "UPDATE tests SET name = :name, description = :description, user_id = :userId, "
+            + "updated_at = :updatedAt, version = version + 1 WHERE id = :id";
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<TestDto> findDtoById(long id) {
+        return databaseClient.sql(SELECT + " WHERE id = :id")
+                .bind("id", id)
+                .map(TestDtoRowMapper.INSTANCE)
+                .one();
+    }
+
+    @Override
+    public Flux<TestDto> findDtosByIdIn(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        return databaseClient.sql(SELECT + " WHERE id IN (:ids)")
+                .bind("ids", ids)
+                .map(TestDtoRowMapper.INSTANCE)
+                .all();
+    }
+
+    @Override
+    public Flux<TestDto> findAllDtos() {
+        return databaseClient.sql(SELECT)
+                .map(TestDtoRowMapper.INSTANCE)
+                .all();
+    }
+
+    @Override
+    public Flux<TestDto> findDtosByNameContaining(String keyword) {
+        return databaseClient.sql(SELECT + " WHERE name LIKE CONCAT('%', :keyword, '%')")
+                .bind("keyword", keyword)
+                .map(TestDtoRowMapper.INSTANCE)
+                .all();
+    }
+
+    @Override
+    public Flux<TestDto> findDtosContainingAllTerms(List<String> terms) {
+        if (terms.isEmpty()) {
+            return Flux.empty();
+        }
+        return bindTerms(databaseClient.sql(SELECT + " WHERE " + termsCondition(terms.size())), terms)
+                .map(TestDtoRowMapper.INSTANCE)
+                .all();
+    }
+
+    @Override
+    public Flux<TestDto> findDtoPageAfter(long afterId, int limit) {
+        return databaseClient.sql(SELECT + " WHERE id > :afterId ORDER BY id LIMIT :limit")
+                .bind("afterId", afterId)
+                .bind("limit", limit)
+                .map(TestDtoRowMapper.INSTANCE)
+                .all();
+    }
+
+    @Override
+    public Flux<TestDto> findDtoPageByNameContainingAfter(String keyword, long afterId, int limit) {
+        return databaseClient.sql(SELECT
+                        + " WHERE id > :afterId AND name LIKE CONCAT('%', :keyword, '%') ORDER BY id LIMIT :limit")
+                .bind("afterId", afterId)
+                .bind("keyword", keyword)
+                .bind("limit", limit)
+                .map(TestDtoRowMapper.INSTANCE)
+                .all();
+    }
+
+    @Override
+    public Flux<TestDto> findDtoPageContainingAllTermsAfter(List<String> terms, long afterId, int limit) {
+        if (terms.isEmpty()) {
+            return Flux.empty();
+        }
+        return bindTerms(databaseClient.sql(SELECT + " WHERE id > :afterId AND " + termsCondition(terms.size())
+                        + " ORDER BY id LIMIT :limit"), terms)
+                .bind("afterId", afterId)
+                .bind("limit", limit)
+                .map(TestDtoRowMapper.INSTANCE)
+                .all();
+    }
+
+    @Override
+    public Mono<TestDto> updateReturning(Test test) {
+        // bind 의 null 검사 예외도 호출 시점이 아닌 오류 신호로 전달되도록 구독 시 문장 생성
+        return Mono.defer(() -> {
+            DatabaseClient.GenericExecuteSpec spec = databaseClient
+                    .sql(test.getVersion() == null ? UPDATE + ")" : UPDATE + " AND version = :version)")
+                    .bind("id", test.getId())
+                    .bind("name", test.getName())
+                    .bind("updatedAt", test.getUpdatedAt());
+            spec = test.getDescription() != null
+                    ? spec.bind("description", test.getDescription())
+                    : spec.bindNull("description", String.class);
+            spec = test.getUserId() != null
+                    ? spec.bind("userId", test.getUserId())
+                    : spec.bindNull("userId", Long.class);
+            if (test.getVersion() != null) {
+                spec = spec.bind("version", test.getVersion());
+            }
+            return spec.map(TestDtoRowMapper.INSTANCE).one();
+        });
+    }
+
+    /**
+     * 검색어마다 (이름 또는 설명에 포함) 조건을 AND 로 연결, 인덱스처럼 소문자로 비교하고 % / _ 는 문자 그대로 검색
+     */
+    private static String termsCondition(int count) {
+        StringBuilder condition = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                condition.append(" AND ");
+            }
+            condition.append("(LOWER(name) LIKE :term").append(i).append(" ESCAPE '\\'")
+                    .append(" OR LOWER(description) LIKE :term").append(i).append(" ESCAPE '\\')");
+        }
+        return condition.toString();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindTerms(DatabaseClient.GenericExecuteSpec spec,
+                                                               List<String> terms) {
+        for (int i = 0; i < terms.size(); i++) {
+            String escaped = terms.get(i).replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+            spec = spec.bind("term" + i, "%" + escaped + "%");
+        }
+        return spec;
+    }
+}
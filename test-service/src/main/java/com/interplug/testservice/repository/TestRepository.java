@@ -1,12 +1,37 @@
 package com.interplug.testservice.repository;
 
 import com.interplug.testservice.entity.Test;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @Repository
-public interface TestRepository extends R2dbcRepository<Test, Long> {
+public interface TestRepository extends R2dbcRepository<Test, Long>, TestBatchRepository, TestProjectionRepository {
 
-    Flux<Test> findByNameContaining(String keyword);
-}
\ No newline at end of file
+    /**
+     * keyset 페이지: afterId 보다 큰 id를 id 순으로 limit 건 (PK 인덱스 범위 스캔, OFFSET 없음)
+     */
+    @Query("SELECT * FROM tests WHERE id > :afterId ORDER BY id LIMIT :limit")
+    Flux<Test> findPageAfter(long afterId, int limit);
+
+    /**
+     * 단일 DELETE 문, 존재 여부는 삭제 건수로 판단
+     *
+     * @return 삭제 건수 (0이면 해당 id 없음)
+     */
+    @Modifying
+    @Query("DELETE FROM tests WHERE id = :id")
+    Mono<Long> removeById(long id);
+
+    /**
+     * 버전이 일치할 때만 삭제 (낙관적 잠금)
+     *
+     * @return 삭제 건수 (0이면 해당 id 없음 또는 버전 불일치)
+     */
+    @Modifying
+    @Query("DELETE FROM tests WHERE id = :id AND version = :version")
+    Mono<Long> removeByIdAndVersion(long id, long version);
+}
@@ -0,0 +1,365 @@
+package com.interplug.testservice.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Test 이름 / 설명 인메모리 n-gram 역색인
+ * - 문서는 추가 순서대로 int ordinal 을 받고, n-gram 마다 ordinal 목록(오름차순)을 보관
+ * - 검색어의 n-gram posting 을 교집합한 뒤 실제 부분 문자열 포함 여부로 검증하므로 결과는 LIKE '%term%' 과 동일
+ * - 수정은 기존 ordinal 을 tombstone 처리 후 새 ordinal 로 추가, tombstone 이 절반을 넘으면 재구축
+ */
+public class TestSearchIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final int gramSize;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private String[] names = new String[INITIAL_CAPACITY];
+    private String[] descriptions = new String[INITIAL_CAPACITY];
+    private int docCount;
+    private int liveCount;
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private Map<Long, Postings> postings = new HashMap<>();
+
+    public TestSearchIndex(int gramSize) {
+        if (gramSize < 2 || gramSize > 4) {
+            throw new IllegalArgumentException("gramSize must be between 2 and 4: " + gramSize);
+        }
+        this.gramSize = gramSize;
+    }
+
+    /**
+     * 문서 추가 또는 교체
+     */
+    public void put(long id, String name, String description) {
+        lock.writeLock().lock();
+        try {
+            boolean replaced = tombstone(id);
+            add(id, normalize(name), normalize(description));
+            if (replaced) {
+                compactIfNeeded();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 아직 색인되지 않은 문서만 추가 (초기 구축 중 이미 반영된 최신 변경을 덮어쓰지 않기 위함)
+     */
+    public boolean putIfAbsent(long id, String name, String description) {
+        lock.writeLock().lock();
+        try {
+            if (ordinals.containsKey(id)) {
+                return false;
+            }
+            add(id, normalize(name), normalize(description));
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            if (tombstone(id)) {
+                compactIfNeeded();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 문서 제거 (전체 재구축 전)
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            ids = new long[INITIAL_CAPACITY];
+            names = new String[INITIAL_CAPACITY];
+            descriptions = new String[INITIAL_CAPACITY];
+            docCount = 0;
+            liveCount = 0;
+            ordinals.clear();
+            postings = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 공백으로 구분된 모든 검색어를 이름 또는 설명에 포함하는 문서를 점수 내림차순(동점은 id 오름차순)으로 반환
+     * 점수: 검색어마다 이름 포함 2, 이름 접두 일치 +1, 설명 포함 1 / 이름이 검색어 전체와 같으면 +3
+     */
+    public List<Hit> search(String query, int limit) {
+        String normalizedQuery = normalize(query).trim();
+        String[] terms = terms(query).toArray(String[]::new);
+        if (terms.length == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int[] candidates = candidates(terms);
+            if (candidates != null && candidates.length == 0) {
+                return List.of();
+            }
+
+            Comparator<Hit> worstFirst = Comparator.comparingInt(Hit::score)
+                    .thenComparing(Comparator.comparingLong(Hit::id).reversed());
+            PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, worstFirst);
+            int count = candidates == null ? docCount : candidates.length;
+            for (int i = 0; i < count; i++) {
+                int ordinal = candidates == null ? i : candidates[i];
+                int score = score(ordinal, terms, normalizedQuery);
+                if (score > 0) {
+                    top.offer(new Hit(ids[ordinal], score));
+                    if (top.size() > limit) {
+                        top.poll();
+                    }
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort(worstFirst.reversed());
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어를 소문자로 바꿔 공백으로 나눈 중복 없는 단어 목록 (인덱스 밖의 DB 검색도 같은 규칙으로 조회)
+     */
+    public static List<String> terms(String query) {
+        return new LinkedHashSet<>(Arrays.asList(normalize(query).trim().split("\\s+"))).stream()
+                .filter(term -> !term.isEmpty())
+                .toList();
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int gramCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int score(int ordinal, String[] terms, String normalizedQuery) {
+        String name = names[ordinal];
+        if (name == null) {
+            return 0;
+        }
+        String description = descriptions[ordinal];
+        int score = 0;
+        for (String term : terms) {
+            boolean inName = name.contains(term);
+            boolean inDescription = description.contains(term);
+            if (!inName && !inDescription) {
+                return 0;
+            }
+            if (inName) {
+                score += name.startsWith(term) ? 3 : 2;
+            }
+            if (inDescription) {
+                score += 1;
+            }
+        }
+        if (name.equals(normalizedQuery)) {
+            score += 3;
+        }
+        return score;
+    }
+
+    /**
+     * 모든 검색어의 n-gram 을 포함하는 ordinal (검색어가 모두 gramSize 보다 짧으면 null → 전체 스캔)
+     * 검색어 구분 없이 posting 을 크기순으로 정렬해 가장 작은 목록부터 교집합하므로 흔한 단어가 섞여도 후보가 빨리 줄어듦
+     */
+    private int[] candidates(String[] terms) {
+        Set<Long> grams = new LinkedHashSet<>();
+        for (String term : terms) {
+            if (term.length() >= gramSize) {
+                collectGrams(term, grams);
+            }
+        }
+        if (grams.isEmpty()) {
+            return null;
+        }
+
+        List<Postings> lists = new ArrayList<>(grams.size());
+        for (Long gram : grams) {
+            Postings list = postings.get(gram);
+            if (list == null) {
+                return new int[0];
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.size));
+
+        Postings smallest = lists.get(0);
+        int[] result = Arrays.copyOf(smallest.ordinals, smallest.size);
+        int size = result.length;
+        for (int i = 1; i < lists.size() && size > 0; i++) {
+            size = retainAll(result, size, lists.get(i));
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * result[0, size) 중 posting 에 있는 ordinal 만 앞으로 모으고 남은 개수 반환
+     * 두 목록 모두 오름차순이므로 galloping(지수 탐색 후 이진 탐색)으로 posting 을 한 방향으로만 훑음
+     */
+    private static int retainAll(int[] result, int size, Postings list) {
+        int[] ordinals = list.ordinals;
+        int kept = 0;
+        int from = 0;
+        for (int i = 0; i < size && from < list.size; i++) {
+            int ordinal = result[i];
+            int step = 1;
+            int to = from;
+            while (to < list.size && ordinals[to] < ordinal) {
+                from = to + 1;
+                to += step;
+                step <<= 1;
+            }
+            int found = Arrays.binarySearch(ordinals, from, Math.min(to + 1, list.size), ordinal);
+            if (found >= 0) {
+                result[kept++] = ordinal;
+                from = found + 1;
+            } else {
+                from = -found - 1;
+            }
+        }
+        return kept;
+    }
+
+    private void add(long id, String name, String description) {
+        if (docCount == ids.length) {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            names = Arrays.copyOf(names, capacity);
+            descriptions = Arrays.copyOf(descriptions, capacity);
+        }
+        int ordinal = docCount++;
+        ids[ordinal] = id;
+        names[ordinal] = name;
+        descriptions[ordinal] = description;
+        ordinals.put(id, ordinal);
+        liveCount++;
+
+        Set<Long> grams = new LinkedHashSet<>();
+        collectGrams(name, grams);
+        collectGrams(description, grams);
+        for (Long gram : grams) {
+            postings.computeIfAbsent(gram, key -> new Postings()).add(ordinal);
+        }
+    }
+
+    private boolean tombstone(long id) {
+        Integer ordinal = ordinals.remove(id);
+        if (ordinal == null) {
+            return false;
+        }
+        names[ordinal] = null;
+        descriptions[ordinal] = null;
+        liveCount--;
+        return true;
+    }
+
+    private void compactIfNeeded() {
+        if (docCount - liveCount > Math.max(INITIAL_CAPACITY, liveCount)) {
+            compact();
+        }
+    }
+
+    /**
+     * tombstone 을 제거하고 살아있는 문서로 ordinal / posting 재구축
+     */
+    private void compact() {
+        long[] oldIds = ids;
+        String[] oldNames = names;
+        String[] oldDescriptions = descriptions;
+        int oldCount = docCount;
+
+        int capacity = Math.max(INITIAL_CAPACITY, Integer.highestOneBit(Math.max(1, liveCount)) * 2);
+        ids = new long[capacity];
+        names = new String[capacity];
+        descriptions = new String[capacity];
+        docCount = 0;
+        liveCount = 0;
+        ordinals.clear();
+        postings = new HashMap<>();
+        for (int i = 0; i < oldCount; i++) {
+            if (oldNames[i] != null) {
+                add(oldIds[i], oldNames[i], oldDescriptions[i]);
+            }
+        }
+    }
+
+    /**
+     * n-gram 을 문자 단위(16bit)로 long 하나에 패킹
+     */
+    private void collectGrams(String text, Set<Long> grams) {
+        for (int start = 0; start + gramSize <= text.length(); start++) {
+            long key = 0;
+            for (int i = 0; i < gramSize; i++) {
+                key = (key << 16) | text.charAt(start + i);
+            }
+            grams.add(key);
+        }
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @param id    Test ID
+     * @param score 랭킹 점수 (높을수록 우선)
+     */
+    public record Hit(long id, int score) {
+    }
+
+    /**
+     * ordinal 오름차순 posting 목록 (ordinal 은 단조 증가하므로 append 만으로 정렬 유지)
+     */
+    private static final class Postings {
+
+        private int[] ordinals = new int[4];
+        private int size;
+
+        void add(int ordinal) {
+            if (size > 0 && ordinals[size - 1] == ordinal) {
+                return;
+            }
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+            ordinals[size++] = ordinal;
+        }
+    }
+}
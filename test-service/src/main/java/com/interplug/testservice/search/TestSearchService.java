@@ -0,0 +1,123 @@
+package com.interplug.testservice.search;
+
+import com.interplug.testservice.config.SearchProperties;
+import com.interplug.testservice.entity.Test;
+import com.interplug.testservice.event.TestChangedEvent;
+import com.interplug.testservice.event.TestDataSeededEvent;
+import com.interplug.testservice.repository.TestRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Test 검색 인덱스 관리
+ * - 애플리케이션 시작 후 tests 테이블을 keyset 페이지로 읽어 비동기 구축 (구축 완료 전 검색은 LIKE 로 대체)
+ * - TestChangedEvent 로 생성 / 수정 / 삭제를 즉시 반영
+ * - 대량 시드(TestDataSeededEvent)는 변경 이벤트 없이 직접 INSERT 하므로 완료 후 처음부터 다시 구축
+ */
+@Slf4j
+public class TestSearchService {
+
+    private final TestRepository testRepository;
+    private final SearchProperties properties;
+    private final TestSearchIndex index;
+    private final Timer queryTimer;
+
+    private final Set<Long> deletedDuringBuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean ready;
+    private volatile Disposable build;
+
+    public TestSearchService(TestRepository testRepository, SearchProperties properties, MeterRegistry meterRegistry) {
+        this.testRepository = testRepository;
+        this.properties = properties;
+        this.index = new TestSearchIndex(properties.getGramSize());
+        this.queryTimer = Timer.builder("test.search.query")
+                .description("n-gram 인덱스 검색 시간")
+                .register(meterRegistry);
+        Gauge.builder("test.search.index.documents", index, TestSearchIndex::size)
+                .description("검색 인덱스에 색인된 Test 수")
+                .register(meterRegistry);
+        Gauge.builder("test.search.index.grams", index, TestSearchIndex::gramCount)
+                .description("검색 인덱스의 고유 n-gram 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        long startNanos = System.nanoTime();
+        int fetchSize = properties.getBuildFetchSize();
+        build = testRepository.findPageAfter(0L, fetchSize).collectList()
+                .expand(rows -> rows.size() < fetchSize
+                        ? Mono.empty()
+                        : testRepository.findPageAfter(rows.get(rows.size() - 1).getId(), fetchSize).collectList())
+                .doOnNext(rows -> rows.forEach(this::indexIfAbsent))
+                .then()
+                // 드라이버가 구독 스레드에서 조회하므로 이벤트 발행 스레드(기동 / 시드 완료)를 막지 않도록 분리
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(
+                        v -> { },
+                        e -> log.error("Failed to build Test search index: {}", e.getMessage()),
+                        () -> {
+                            ready = true;
+                            deletedDuringBuild.clear();
+                            log.info("Built Test search index: {} documents, {} grams in {} ms",
+                                    index.size(), index.gramCount(), (System.nanoTime() - startNanos) / 1_000_000);
+                        });
+    }
+
+    @EventListener(TestDataSeededEvent.class)
+    public void rebuildIndex() {
+        close();
+        ready = false;
+        index.clear();
+        buildIndex();
+    }
+
+    @EventListener
+    public void onTestChanged(TestChangedEvent event) {
+        if (event.type() == TestChangedEvent.Type.DELETED) {
+            if (!ready) {
+                deletedDuringBuild.add(event.id());
+            }
+            index.remove(event.id());
+        } else {
+            index.put(event.id(), event.test().getName(), event.test().getDescription());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * @param limit 최대 결과 수 (null 이면 defaultLimit)
+     */
+    public List<TestSearchIndex.Hit> search(String query, Integer limit) {
+        int max = limit == null || limit <= 0 ? properties.getDefaultLimit() : limit;
+        return queryTimer.record(() -> index.search(query, max));
+    }
+
+    public void close() {
+        Disposable current = build;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    private void indexIfAbsent(Test test) {
+        // 구축 중 삭제된 행이 먼저 읽힌 페이지로 되살아나지 않도록 제외
+        if (!deletedDuringBuild.contains(test.getId())) {
+            index.putIfAbsent(test.getId(), test.getName(), test.getDescription());
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.interplug.testservice.service;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.interplug.testservice.config.TestCacheProperties;
+import com.interplug.testservice.dto.TestDto;
+import com.interplug.testservice.entity.Test;
+import com.interplug.testservice.event.TestChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Test 단건 조회 read-through 캐시 (Caffeine AsyncLoadingCache, id -> TestDto)
+ * - 미스 시 loader 로 조회하고, 같은 id 의 동시 미스는 하나의 조회를 공유 (single-flight)
+ * - 없는 id 는 캐시하지 않음 (생성 시 바로 put 되므로 negative 캐시 불필요)
+ * - TestChangedEvent 로 생성 / 수정은 캐시된 값보다 version 이 높을 때만 교체, 삭제는 제거
+ * - 메트릭: cache.gets{cache=test-service.tests,result=hit|miss}, cache.size, cache.evictions 등
+ */
+@Slf4j
+public class TestCache {
+
+    static final String CACHE_NAME = "test-service.tests";
+
+    private final AsyncLoadingCache<Long, TestDto> cache;
+
+    public TestCache(TestCacheProperties properties, Function<Long, Mono<TestDto>> loader,
+                     MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .buildAsync((id, executor) -> loader.apply(id)
+                        .doOnError(e -> log.debug("Test {} lookup not cached: {}", id, e.getMessage()))
+                        .toFuture());
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * @return 캐시된 값 또는 loader 조회 결과 (없는 id 면 empty)
+     */
+    public Mono<TestDto> get(Long id) {
+        return Mono.fromFuture(() -> cache.get(id), true);
+    }
+
+    public void invalidate(Long id) {
+        cache.synchronous().invalidate(id);
+    }
+
+    /**
+     * 같은 id 의 동시 수정 이벤트는 서로 다른 R2DBC 스레드에서 순서 없이 도착할 수 있으므로
+     * 캐시된 값보다 version 이 높을 때만 교체하고, 그 외(같거나 낮은 version / 진행 중인 조회)는 제거하여 다음 조회에서 다시 읽음
+     * version 이 없는 엔티티(대량 수정)는 행 전체를 알 수 없으므로 교체 대신 제거
+     */
+    @EventListener
+    public void onTestChanged(TestChangedEvent event) {
+        Test test = event.test();
+        if (event.type() == TestChangedEvent.Type.DELETED || test.getVersion() == null) {
+            invalidate(event.id());
+            return;
+        }
+        TestDto changed = TestDto.from(test);
+        cache.asMap().compute(event.id(), (id, current) -> {
+            if (current == null) {
+                return CompletableFuture.completedFuture(changed);
+            }
+            if (!current.isDone()) {
+                return null;
+            }
+            TestDto cached = current.isCompletedExceptionally() ? null : current.getNow(null);
+            if (cached == null || cached.getVersion() == null || changed.getVersion() > cached.getVersion()) {
+                return CompletableFuture.completedFuture(changed);
+            }
+            return null;
+        });
+    }
+}
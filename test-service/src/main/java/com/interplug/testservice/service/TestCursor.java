@@ -0,0 +1,40 @@
+package com.interplug.testservice.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * keyset 페이지네이션 커서 인코딩
+ * - 클라이언트에는 불투명한 문자열로 노출하고 내부적으로는 마지막 id만 담음
+ */
+public final class TestCursor {
+
+    private static final String PREFIX = "id:";
+
+    private TestCursor() {
+    }
+
+    public static String encode(long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return 커서가 가리키는 마지막 id (커서가 없으면 0 → 첫 페이지)
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(PREFIX)) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            return Long.parseLong(decoded.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.interplug.testservice.service;
+
+import com.interplug.testservice.config.SeedProperties;
+import com.interplug.testservice.entity.Test;
+import com.interplug.testservice.event.TestDataSeededEvent;
+import com.interplug.testservice.repository.TestRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.context.ApplicationEventPublisher;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 벤치마크용 대량 시드 (test-service.seed.enabled=true)
+ * - batchSize 행씩 batch INSERT (TestRepository.batchInsert) 를 concurrency 개까지 동시에 실행, 기동을 막지 않도록 비동기
+ * - batch 마다 (randomSeed, batch 번호) 로 난수를 만들어 실행 순서와 무관하게 같은 데이터 생성
+ * - 진행률 / 처리 속도를 progressInterval 마다 로그, 완료 시 전체 rows/s 와 TestDataSeededEvent 발행
+ * - health(testDataSeeder): 시드 중 OUT_OF_SERVICE, 완료 UP, 실패 DOWN (readiness 그룹에 포함)
+ */
+@Slf4j
+public class TestDataSeeder implements HealthIndicator {
+
+    private static final String[] AREAS = {
+            "Gateway", "Eureka", "Config", "User Service", "R2DBC", "WebFlux", "WebClient", "Circuit Breaker",
+            "Cache", "Search", "Bulk API", "Change Feed", "Load Balancer", "Auth", "Pagination"
+    };
+    private static final String[] KINDS = {
+            "Integration", "Load", "Regression", "Smoke", "Latency", "Failover", "Contract", "Soak", "Security",
+            "Compatibility"
+    };
+    private static final String[] SUBJECTS = {
+            "응답 시간", "오류율", "처리량", "재시도 동작", "타임아웃", "캐시 적중률", "커넥션 풀 사용량", "장애 전파",
+            "데이터 정합성", "동시성 처리", "메모리 사용량", "페이지 조회"
+    };
+    private static final String[] CONDITIONS = {
+            "정상 부하", "최대 부하", "네트워크 지연", "인스턴스 장애", "배포 직후", "캐시 비어 있음", "대량 데이터"
+    };
+    private static final long MAX_AGE_SECONDS = Duration.ofDays(365).toSeconds();
+
+    public enum State {
+        DISABLED, SEEDING, DONE, FAILED
+    }
+
+    private final TestRepository testRepository;
+    private final SeedProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final AtomicLong inserted = new AtomicLong();
+    private volatile State state = State.DISABLED;
+    private volatile long startNanos;
+    private volatile long elapsedNanos;
+    private volatile String error;
+    private volatile Disposable run;
+
+    public TestDataSeeder(TestRepository testRepository, SeedProperties properties,
+                          ApplicationEventPublisher eventPublisher) {
+        this.testRepository = testRepository;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public void start() {
+        long rows = properties.getRows();
+        int batchSize = properties.getBatchSize();
+        long batches = (rows + batchSize - 1) / batchSize;
+        LocalDateTime now = LocalDateTime.now();
+
+        state = State.SEEDING;
+        startNanos = System.nanoTime();
+        log.info("Seeding {} tests ({} rows per batch, concurrency {})", rows, batchSize, properties.getConcurrency());
+
+        Disposable progress = Flux.interval(properties.getProgressInterval())
+                .subscribe(tick -> logProgress(rows));
+        Mono<Void> truncate = properties.isTruncate() ? testRepository.deleteAll() : Mono.empty();
+        // R2DBC 드라이버(H2)는 구독한 스레드에서 실행되므로 기동 스레드를 막지 않고 batch 끼리 병렬로 돌도록 별도 스레드에서 구독
+        run = truncate
+                .thenMany(Flux.range(0, Math.toIntExact(batches)))
+                .flatMap(batch -> testRepository.batchInsert(generate(batch, batchSize, rows, now))
+                        .count()
+                        .doOnNext(inserted::addAndGet)
+                        .subscribeOn(Schedulers.boundedElastic()), properties.getConcurrency())
+                .then()
+                .doOnTerminate(progress::dispose)
+                .doOnCancel(progress::dispose)
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(
+                        v -> { },
+                        e -> {
+                            elapsedNanos = System.nanoTime() - startNanos;
+                            error = e.getMessage();
+                            state = State.FAILED;
+                            log.error("Seeding tests failed after {} rows: {}", inserted.get(), e.getMessage());
+                        },
+                        () -> {
+                            elapsedNanos = System.nanoTime() - startNanos;
+                            state = State.DONE;
+                            log.info("Seeded {} tests in {} ms ({} rows/s)",
+                                    inserted.get(), elapsedNanos / 1_000_000, formatRate(rowsPerSecond()));
+                            eventPublisher.publishEvent(
+                                    new TestDataSeededEvent(inserted.get(), Duration.ofNanos(elapsedNanos)));
+                        });
+    }
+
+    public void stop() {
+        Disposable current = run;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = switch (state) {
+            case DISABLED, DONE -> Health.up();
+            case SEEDING -> Health.outOfService();
+            case FAILED -> Health.down().withDetail("error", error);
+        };
+        if (state == State.DISABLED) {
+            return builder.withDetail("state", state).build();
+        }
+        return builder
+                .withDetail("state", state)
+                .withDetail("rows", properties.getRows())
+                .withDetail("inserted", inserted.get())
+                .withDetail("rowsPerSecond", formatRate(rowsPerSecond()))
+                .build();
+    }
+
+    private List<Test> generate(int batch, int batchSize, long rows, LocalDateTime now) {
+        SplittableRandom random = new SplittableRandom(properties.getRandomSeed() * 31 + batch);
+        long first = (long) batch * batchSize;
+        int count = (int) Math.min(batchSize, rows - first);
+        List<Test> tests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long number = first + i + 1;
+            String area = AREAS[random.nextInt(AREAS.length)];
+            String kind = KINDS[random.nextInt(KINDS.length)];
+            LocalDateTime createdAt = now.minusSeconds(random.nextLong(MAX_AGE_SECONDS));
+            // 절반은 생성 후 수정되지 않은 행
+            LocalDateTime updatedAt = random.nextBoolean()
+                    ? createdAt
+                    : createdAt.plusSeconds(random.nextLong(Math.max(1, Duration.between(createdAt, now).toSeconds())));
+            tests.add(Test.builder()
+                    .name(area + " " + kind + " Test " + number)
+                    .description(random.nextInt(10) == 0 ? null : description(random, area))
+                    .userId(random.nextInt(10) == 0 ? null : userId(random))
+                    .createdAt(createdAt)
+                    .updatedAt(updatedAt)
+                    .build());
+        }
+        return tests;
+    }
+
+    private static String description(SplittableRandom random, String area) {
+        String description = area + " " + SUBJECTS[random.nextInt(SUBJECTS.length)] + " 검증 ("
+                + CONDITIONS[random.nextInt(CONDITIONS.length)] + ")";
+        if (random.nextInt(3) == 0) {
+            description += ", " + SUBJECTS[random.nextInt(SUBJECTS.length)] + " 함께 확인";
+        }
+        return description;
+    }
+
+    /**
+     * 일부 User 에 Test 가 몰리도록 낮은 id 쪽으로 치우친 분포
+     */
+    private long userId(SplittableRandom random) {
+        double skewed = random.nextDouble() * random.nextDouble();
+        return 1 + (long) (skewed * properties.getUserIdMax());
+    }
+
+    private void logProgress(long rows) {
+        long done = inserted.get();
+        log.info("Seeding tests: {}/{} rows ({}%), {} rows/s",
+                done, rows, rows == 0 ? 100 : done * 100 / rows, formatRate(rowsPerSecond()));
+    }
+
+    private double rowsPerSecond() {
+        long nanos = state == State.SEEDING ? System.nanoTime() - startNanos : elapsedNanos;
+        return nanos == 0 ? 0 : inserted.get() * 1_000_000_000.0 / nanos;
+    }
+
+    private static String formatRate(double rate) {
+        return String.format("%.1f", rate);
+    }
+}
@@ -0,0 +1,75 @@
+package com.interplug.testservice.service;
+
+import com.interplug.testservice.client.UserServiceClient;
+import com.interplug.testservice.config.EnrichmentProperties;
+import com.interplug.testservice.dto.TestDto;
+import com.interplug.testservice.dto.TestWithUserDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Test 목록에 User 정보를 병렬로 보강
+ * - Test 는 keyset 스트리밍으로 읽고, User 조회는 concurrency 개까지 동시에 진행
+ * - 요청 단위 시간 예산: 예산이 남은 만큼만 각 User 조회를 기다리고, 소진되면 나머지는 User 없이 응답
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TestEnrichmentService {
+
+    private final TestService testService;
+    private final UserServiceClient userServiceClient;
+    private final EnrichmentProperties enrichmentProperties;
+
+    /**
+     * @param ordered     true 면 Test id 순서 유지 (앞선 조회가 늦으면 뒤 결과가 대기), false 면 완료 순
+     * @param concurrency 동시 User 조회 수 (null 이면 기본값, 최대값 초과 시 최대값)
+     * @param timeout     요청 전체 User 조회 시간 예산 (null 이면 기본값)
+     */
+    public Flux<TestWithUserDto> findAllWithUsers(boolean ordered, Integer concurrency, Duration timeout) {
+        int limit = concurrency == null || concurrency <= 0
+                ? enrichmentProperties.getConcurrency()
+                : Math.min(concurrency, enrichmentProperties.getMaxConcurrency());
+        Duration budget = timeout != null ? timeout : enrichmentProperties.getTimeoutBudget();
+
+        return Flux.defer(() -> {
+            long deadline = System.nanoTime() + budget.toNanos();
+            AtomicInteger degraded = new AtomicInteger();
+            Function<TestDto, Mono<TestWithUserDto>> enrich = test -> enrich(test, deadline, degraded);
+            Flux<TestDto> tests = testService.streamAll();
+            return (ordered ? tests.flatMapSequential(enrich, limit) : tests.flatMap(enrich, limit))
+                    .doOnComplete(() -> {
+                        if (degraded.get() > 0) {
+                            log.warn("Enrichment budget {} exceeded for {} tests", budget, degraded.get());
+                        }
+                    });
+        });
+    }
+
+    private Mono<TestWithUserDto> enrich(TestDto test, long deadline, AtomicInteger degraded) {
+        if (test.getUserId() == null) {
+            return Mono.just(TestWithUserDto.of(test, null));
+        }
+        Mono<TestWithUserDto> withoutUser = Mono.fromSupplier(() -> {
+            degraded.incrementAndGet();
+            return TestWithUserDto.of(test, null);
+        });
+        return Mono.defer(() -> {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return withoutUser;
+            }
+            return userServiceClient.getUserById(test.getUserId())
+                    .map(user -> TestWithUserDto.of(test, user))
+                    .defaultIfEmpty(TestWithUserDto.of(test, null))
+                    .timeout(Duration.ofNanos(remaining), withoutUser);
+        });
+    }
+}
@@ -1,15 +1,31 @@
 package com.interplug.testservice.service;
 
+import com.interplug.testservice.config.BulkProperties;
+import com.interplug.testservice.config.PaginationProperties;
+import com.interplug.testservice.dto.BulkResultDto;
 import com.interplug.testservice.dto.TestDto;
+import com.interplug.testservice.dto.TestPageDto;
 import com.interplug.testservice.entity.Test;
+import com.interplug.testservice.event.TestChangedEvent;
 import com.interplug.testservice.repository.TestRepository;
+import com.interplug.testservice.search.TestSearchIndex;
+import com.interplug.testservice.search.TestSearchService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
 
 @Slf4j
 @Service
@@ -17,65 +33,344 @@ import java.time.LocalDateTime;
 public class TestService {
 
     private final TestRepository testRepository;
+    private final ObjectProvider<TestWriteBehindQueue> writeBehindQueue;
+    private final TransactionalOperator transactionalOperator;
+    private final BulkProperties bulkProperties;
+    private final PaginationProperties paginationProperties;
+    private final ObjectProvider<TestSearchService> searchService;
+    private final ObjectProvider<TestCache> testCache;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * name 이 비어 있으면 IllegalArgumentException (write-behind 큐에 넣기 전에 거절하여 다른 요청의 batch 에 영향 없음)
+     */
     public Mono<TestDto> create(TestDto testDto) {
+        if (!StringUtils.hasText(testDto.getName())) {
+            return Mono.error(new IllegalArgumentException("name is required"));
+        }
         LocalDateTime now = LocalDateTime.now();
         Test test = Test.builder()
                 .name(testDto.getName())
                 .description(testDto.getDescription())
+                .userId(testDto.getUserId())
                 .createdAt(now)
                 .updatedAt(now)
                 .build();
 
+        // write-behind 활성화 시 큐에 넣고 batch INSERT 후 생성된 id로 응답
+        TestWriteBehindQueue queue = writeBehindQueue.getIfAvailable();
+        if (queue != null) {
+            return queue.submit(test)
+                    .doOnNext(saved -> eventPublisher.publishEvent(TestChangedEvent.created(saved)))
+                    .map(this::convertToDto);
+        }
+
         return testRepository.save(test)
                 .doOnSuccess(saved -> log.info("Created Test entity with ID: {}", saved.getId()))
+                .doOnNext(saved -> eventPublisher.publishEvent(TestChangedEvent.created(saved)))
                 .map(this::convertToDto);
     }
 
+    /**
+     * 캐시 활성 시 TestCache 를 통한 read-through 조회 (캐시 값은 생성 / 수정 / 삭제 이벤트로 갱신)
+     */
     public Mono<TestDto> findById(Long id) {
-        return testRepository.findById(id)
-                .map(this::convertToDto)
+        TestCache cache = testCache.getIfAvailable();
+        return (cache != null ? cache.get(id) : testRepository.findDtoById(id))
                 .switchIfEmpty(Mono.error(
                     new RuntimeException("Test not found with ID: " + id)
                 ));
     }
 
     public Flux<TestDto> findAll() {
-        return testRepository.findAll()
-                .doOnComplete(() -> log.info("Retrieved all test entities"))
-                .map(this::convertToDto);
+        return testRepository.findAllDtos()
+                .doOnComplete(() -> log.info("Retrieved all test entities"));
     }
 
     public Flux<TestDto> findByNameContaining(String keyword) {
-        return testRepository.findByNameContaining(keyword)
-                .doOnComplete(() -> log.info("Search completed for keyword: {}", keyword))
-                .map(this::convertToDto);
+        return testRepository.findDtosByNameContaining(keyword)
+                .doOnComplete(() -> log.info("Search completed for keyword: {}", keyword));
+    }
+
+    /**
+     * 이름 / 설명 검색 (점수순)
+     * 검색 인덱스가 준비되면 n-gram 인덱스로 id 를 찾고 행을 조회, 인덱스 구축 중에는 같은 조건의 DB 조회로 대체
+     * 인덱스 비활성 시 기존과 같이 이름 LIKE 검색
+     */
+    public Flux<TestDto> search(String keyword, Integer limit) {
+        TestSearchService search = searchService.getIfAvailable();
+        if (search == null) {
+            return findByNameContaining(keyword);
+        }
+        if (!search.isReady()) {
+            return testRepository.findDtosContainingAllTerms(TestSearchIndex.terms(keyword))
+                    .take(limit == null || limit <= 0 ? Long.MAX_VALUE : limit);
+        }
+
+        List<Long> ids = search.search(keyword, limit).stream().map(TestSearchIndex.Hit::id).toList();
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        // IN 조회는 순서를 보장하지 않으므로 점수 순서대로 재정렬
+        return testRepository.findDtosByIdIn(ids)
+                .collectMap(TestDto::getId)
+                .flatMapIterable(rows -> ids.stream().map(rows::get).filter(Objects::nonNull).toList())
+                .doOnComplete(() -> log.info("Index search completed for keyword: {}", keyword));
+    }
+
+    public Mono<TestPageDto> findPage(String cursor, Integer size) {
+        return page(cursor, size, testRepository::findDtoPageAfter);
+    }
+
+    public Mono<TestPageDto> searchPage(String keyword, String cursor, Integer size) {
+        return page(cursor, size, searchQuery(keyword));
+    }
+
+    /**
+     * 전체 목록 스트리밍: keyset 페이지를 하나씩 이어 붙여 R2DBC 결과를 그대로 흘려보냄
+     * 다음 페이지는 앞 페이지가 소비된 뒤에만 조회하므로 테이블 크기와 무관하게 메모리 사용량 일정
+     */
+    public Flux<TestDto> streamAll() {
+        return stream(testRepository::findDtoPageAfter)
+                .doOnComplete(() -> log.info("Streamed all test entities"));
+    }
+
+    public Flux<TestDto> streamSearch(String keyword) {
+        return stream(searchQuery(keyword))
+                .doOnComplete(() -> log.info("Streamed search results for keyword: {}", keyword));
     }
 
+    /**
+     * 검색 페이지 / 스트리밍용 keyset 조회: search 와 같은 조건 (id 순)
+     * 인덱스 활성 시 모든 단어가 이름 또는 설명에 포함 (대소문자 무시), 비활성 시 이름 LIKE
+     */
+    private BiFunction<Long, Integer, Flux<TestDto>> searchQuery(String keyword) {
+        if (searchService.getIfAvailable() == null) {
+            return (afterId, limit) -> testRepository.findDtoPageByNameContainingAfter(keyword, afterId, limit);
+        }
+        List<String> terms = TestSearchIndex.terms(keyword);
+        return (afterId, limit) -> testRepository.findDtoPageContainingAllTermsAfter(terms, afterId, limit);
+    }
+
+    private Mono<TestPageDto> page(String cursor, Integer size, BiFunction<Long, Integer, Flux<TestDto>> query) {
+        return Mono.fromCallable(() -> TestCursor.decode(cursor))
+                .flatMap(afterId -> {
+                    int limit = pageSize(size);
+                    // limit + 1 건을 조회해 다음 페이지 존재 여부를 추가 COUNT 없이 판단
+                    return query.apply(afterId, limit + 1)
+                            .collectList()
+                            .map(rows -> {
+                                boolean hasNext = rows.size() > limit;
+                                List<TestDto> items = hasNext ? rows.subList(0, limit) : rows;
+                                return TestPageDto.builder()
+                                        .items(items)
+                                        .hasNext(hasNext)
+                                        .nextCursor(hasNext ? TestCursor.encode(items.get(limit - 1).getId()) : null)
+                                        .build();
+                            });
+                });
+    }
+
+    private Flux<TestDto> stream(BiFunction<Long, Integer, Flux<TestDto>> query) {
+        int fetchSize = paginationProperties.getStreamFetchSize();
+        return query.apply(0L, fetchSize).collectList()
+                .expand(rows -> rows.size() < fetchSize
+                        ? Mono.empty()
+                        : query.apply(rows.get(rows.size() - 1).getId(), fetchSize).collectList())
+                // prefetch 1: 다운스트림이 현재 페이지를 소비할 때까지 다음 페이지 조회 보류
+                .flatMapIterable(rows -> rows, 1);
+    }
+
+    private int pageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return paginationProperties.getDefaultSize();
+        }
+        return Math.min(size, paginationProperties.getMaxSize());
+    }
+
+    /**
+     * 단일 UPDATE 문으로 수정 후 변경된 행 반환 (조회 후 저장하지 않음)
+     * testDto.version 이 있으면 낙관적 잠금: 버전이 다르면 TestVersionConflictException
+     * name 이 비어 있으면 IllegalArgumentException
+     */
     public Mono<TestDto> update(Long id, TestDto testDto) {
-        return testRepository.findById(id)
-                .switchIfEmpty(Mono.error(
-                    new RuntimeException("Test not found with ID: " + id)
-                ))
-                .flatMap(test -> {
-                    test.setName(testDto.getName());
-                    test.setDescription(testDto.getDescription());
-                    test.setUpdatedAt(LocalDateTime.now());
-                    return testRepository.save(test);
-                })
+        if (!StringUtils.hasText(testDto.getName())) {
+            return Mono.error(new IllegalArgumentException("name is required"));
+        }
+        Test test = Test.builder()
+                .id(id)
+                .name(testDto.getName())
+                .description(testDto.getDescription())
+                .userId(testDto.getUserId())
+                .updatedAt(LocalDateTime.now())
+                .version(testDto.getVersion())
+                .build();
+        return testRepository.updateReturning(test)
+                .switchIfEmpty(Mono.defer(() -> notFoundOrConflict(id, testDto.getVersion())))
                 .doOnSuccess(updated -> log.info("Updated Test entity with ID: {}", updated.getId()))
-                .map(this::convertToDto);
+                .doOnNext(updated -> eventPublisher.publishEvent(TestChangedEvent.updated(convertToEntity(updated))));
+    }
+
+    /**
+     * 단일 DELETE 문, 삭제 건수가 0이면 404 (version 지정 시 버전 불일치는 409)
+     */
+    public Mono<Void> delete(Long id, Long version) {
+        Mono<Long> deleted = version == null
+                ? testRepository.removeById(id)
+                : testRepository.removeByIdAndVersion(id, version);
+        return deleted
+                .flatMap(count -> {
+                    if (count == 0) {
+                        return notFoundOrConflict(id, version);
+                    }
+                    log.info("Deleted Test entity with ID: {}", id);
+                    eventPublisher.publishEvent(TestChangedEvent.deleted(id));
+                    return Mono.empty();
+                })
+                .then();
     }
 
-    public Mono<Void> delete(Long id) {
+    /**
+     * 변경 건수 0의 원인: 버전 조건이 없으면 없는 id, 있으면 실패한 경우에만 존재 여부를 확인해 구분
+     */
+    private <T> Mono<T> notFoundOrConflict(Long id, Long version) {
+        RuntimeException notFound = new RuntimeException("Test not found with ID: " + id);
+        if (version == null) {
+            return Mono.error(notFound);
+        }
         return testRepository.existsById(id)
-                .flatMap(exists -> {
-                    if (!exists) {
-                        return Mono.error(new RuntimeException("Test not found with ID: " + id));
+                .flatMap(exists -> Mono.error(exists ? new TestVersionConflictException(id, version) : notFound));
+    }
+
+    /**
+     * 대량 생성: chunkSize 단위 batch INSERT (chunk 당 트랜잭션 하나), 항목별 결과를 입력 순서대로 스트리밍
+     * 한 chunk 가 실패하면 해당 chunk 전체가 롤백되고 FAILED 로 응답
+     */
+    public Flux<BulkResultDto> bulkCreate(Flux<TestDto> testDtos) {
+        return testDtos.index()
+                .buffer(bulkProperties.getChunkSize())
+                .concatMap(chunk -> {
+                    List<BulkResultDto> invalid = new ArrayList<>();
+                    List<Tuple2<Long, TestDto>> valid = new ArrayList<>();
+                    for (Tuple2<Long, TestDto> item : chunk) {
+                        if (StringUtils.hasText(item.getT2().getName())) {
+                            valid.add(item);
+                        } else {
+                            invalid.add(BulkResultDto.failed(item.getT1(), null, "name is required"));
+                        }
                     }
-                    return testRepository.deleteById(id)
-                            .doOnSuccess(v -> log.info("Deleted Test entity with ID: {}", id));
-                });
+                    LocalDateTime now = LocalDateTime.now();
+                    List<Test> tests = valid.stream()
+                            .map(item -> Test.builder()
+                                    .name(item.getT2().getName())
+                                    .description(item.getT2().getDescription())
+                                    .userId(item.getT2().getUserId())
+                                    .createdAt(now)
+                                    .updatedAt(now)
+                                    .build())
+                            .toList();
+                    Flux<BulkResultDto> created = tests.isEmpty() ? Flux.empty()
+                            : transactionalOperator.transactional(testRepository.batchInsert(tests).collectList())
+                            .flatMapIterable(ids -> {
+                                List<BulkResultDto> results = new ArrayList<>(ids.size());
+                                for (int i = 0; i < ids.size(); i++) {
+                                    Test saved = tests.get(i);
+                                    saved.setId(ids.get(i));
+                                    saved.setVersion(0L);
+                                    eventPublisher.publishEvent(TestChangedEvent.created(saved));
+                                    results.add(BulkResultDto.of(valid.get(i).getT1(), ids.get(i),
+                                            BulkResultDto.Status.CREATED));
+                                }
+                                return results;
+                            })
+                            .onErrorResume(e -> failChunk(valid.stream().map(Tuple2::getT1).toList(), e));
+                    return Flux.concat(Flux.fromIterable(invalid), created)
+                            .sort((a, b) -> Long.compare(a.getIndex(), b.getIndex()));
+                })
+                .doOnComplete(() -> log.info("Bulk create completed"));
+    }
+
+    /**
+     * 대량 수정: 항목별 결과는 변경 건수 기준 (0건이면 NOT_FOUND)
+     */
+    public Flux<BulkResultDto> bulkUpdate(Flux<TestDto> testDtos) {
+        return testDtos.index()
+                .buffer(bulkProperties.getChunkSize())
+                .concatMap(chunk -> {
+                    List<BulkResultDto> invalid = new ArrayList<>();
+                    List<Tuple2<Long, TestDto>> valid = new ArrayList<>();
+                    for (Tuple2<Long, TestDto> item : chunk) {
+                        if (item.getT2().getId() == null || !StringUtils.hasText(item.getT2().getName())) {
+                            invalid.add(BulkResultDto.failed(item.getT1(), item.getT2().getId(),
+                                    "id and name are required"));
+                        } else {
+                            valid.add(item);
+                        }
+                    }
+                    LocalDateTime now = LocalDateTime.now();
+                    List<Test> tests = valid.stream()
+                            .map(item -> Test.builder()
+                                    .id(item.getT2().getId())
+                                    .name(item.getT2().getName())
+                                    .description(item.getT2().getDescription())
+                                    .userId(item.getT2().getUserId())
+                                    .updatedAt(now)
+                                    .build())
+                            .toList();
+                    Flux<BulkResultDto> updated = tests.isEmpty() ? Flux.empty()
+                            : transactionalOperator.transactional(testRepository.batchUpdate(tests).collectList())
+                            .flatMapIterable(counts -> {
+                                for (int i = 0; i < counts.size(); i++) {
+                                    if (counts.get(i) > 0) {
+                                        eventPublisher.publishEvent(TestChangedEvent.updated(tests.get(i)));
+                                    }
+                                }
+                                return affectedResults(valid.stream().map(Tuple2::getT1).toList(),
+                                        tests.stream().map(Test::getId).toList(), counts, BulkResultDto.Status.UPDATED);
+                            })
+                            .onErrorResume(e -> failChunk(valid.stream().map(Tuple2::getT1).toList(), e));
+                    return Flux.concat(Flux.fromIterable(invalid), updated)
+                            .sort((a, b) -> Long.compare(a.getIndex(), b.getIndex()));
+                })
+                .doOnComplete(() -> log.info("Bulk update completed"));
+    }
+
+    /**
+     * 대량 삭제: id별 결과는 삭제 건수 기준 (0건이면 NOT_FOUND)
+     */
+    public Flux<BulkResultDto> bulkDelete(Flux<Long> ids) {
+        return ids.index()
+                .buffer(bulkProperties.getChunkSize())
+                .concatMap(chunk -> {
+                    List<Long> indexes = chunk.stream().map(Tuple2::getT1).toList();
+                    List<Long> chunkIds = chunk.stream().map(Tuple2::getT2).toList();
+                    return transactionalOperator.transactional(testRepository.batchDelete(chunkIds).collectList())
+                            .flatMapIterable(counts -> {
+                                for (int i = 0; i < counts.size(); i++) {
+                                    if (counts.get(i) > 0) {
+                                        eventPublisher.publishEvent(TestChangedEvent.deleted(chunkIds.get(i)));
+                                    }
+                                }
+                                return affectedResults(indexes, chunkIds, counts, BulkResultDto.Status.DELETED);
+                            })
+                            .onErrorResume(e -> failChunk(indexes, e));
+                })
+                .doOnComplete(() -> log.info("Bulk delete completed"));
+    }
+
+    private static List<BulkResultDto> affectedResults(List<Long> indexes, List<Long> ids, List<Long> counts,
+                                                       BulkResultDto.Status status) {
+        List<BulkResultDto> results = new ArrayList<>(counts.size());
+        for (int i = 0; i < counts.size(); i++) {
+            results.add(BulkResultDto.of(indexes.get(i), ids.get(i),
+                    counts.get(i) > 0 ? status : BulkResultDto.Status.NOT_FOUND));
+        }
+        return results;
+    }
+
+    private Flux<BulkResultDto> failChunk(List<Long> indexes, Throwable e) {
+        log.error("Bulk chunk of {} items failed: {}", indexes.size(), e.getMessage());
+        return Flux.fromIterable(indexes).map(index -> BulkResultDto.failed(index, null, e.getMessage()));
     }
 
     private TestDto convertToDto(Test test) {
@@ -83,8 +378,22 @@ public class TestService {
                 .id(test.getId())
                 .name(test.getName())
                 .description(test.getDescription())
+                .userId(test.getUserId())
                 .createdAt(test.getCreatedAt())
                 .updatedAt(test.getUpdatedAt())
+                .version(test.getVersion())
+                .build();
+    }
+
+    private Test convertToEntity(TestDto testDto) {
+        return Test.builder()
+                .id(testDto.getId())
+                .name(testDto.getName())
+                .description(testDto.getDescription())
+                .userId(testDto.getUserId())
+                .createdAt(testDto.getCreatedAt())
+                .updatedAt(testDto.getUpdatedAt())
+                .version(testDto.getVersion())
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.interplug.testservice.service;
+
+/**
+ * 낙관적 잠금 실패: 요청한 버전과 현재 행의 버전이 다름
+ */
+public class TestVersionConflictException extends RuntimeException {
+
+    public TestVersionConflictException(Long id, Long version) {
+        super("Test " + id + " was modified concurrently (expected version: " + version + ")");
+    }
+}
@@ -0,0 +1,170 @@
+package com.interplug.testservice.service;
+
+import com.interplug.testservice.config.WriteBehindProperties;
+import com.interplug.testservice.entity.Test;
+import com.interplug.testservice.repository.TestRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Test 생성 write-behind 큐
+ * - 요청은 bounded 큐에 넣고, 전용 스레드가 batchSize 또는 flushInterval 기준으로 모아 batch INSERT (TestRepository.batchInsert)
+ * - 각 요청은 자신의 행에 생성된 id가 채워진 Test를 받음 (batch 결과 순서 = 바인딩 순서)
+ * - 큐가 가득 차면 기다리지 않고 WriteBehindRejectedException 으로 즉시 거절
+ * - batch INSERT 는 트랜잭션 하나로 실행하고, 실패(롤백)하면 한 행씩 다시 INSERT 하여 실패한 행의 요청만 오류
+ * - flushTimeout 초과는 반영 여부를 알 수 없으므로 재시도하지 않고 해당 요청 모두 오류
+ */
+@Slf4j
+public class TestWriteBehindQueue {
+
+    private final TestRepository testRepository;
+    private final TransactionalOperator transactionalOperator;
+    private final WriteBehindProperties properties;
+    private final BlockingQueue<PendingInsert> queue;
+    private final Counter rejectedCounter;
+    private final DistributionSummary batchSizeSummary;
+    private volatile boolean running;
+    private Thread flusher;
+
+    public TestWriteBehindQueue(TestRepository testRepository, TransactionalOperator transactionalOperator,
+                                WriteBehindProperties properties, MeterRegistry meterRegistry) {
+        this.testRepository = testRepository;
+        this.transactionalOperator = transactionalOperator;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.rejectedCounter = Counter.builder("test.write-behind.rejected").register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("test.write-behind.batch.size").register(meterRegistry);
+        Gauge.builder("test.write-behind.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    public void start() {
+        running = true;
+        flusher = Thread.ofPlatform().name("test-write-behind").daemon().start(this::drainLoop);
+    }
+
+    public void stop() throws InterruptedException {
+        running = false;
+        if (flusher != null) {
+            flusher.join(properties.getFlushTimeout().toMillis());
+        }
+    }
+
+    public Mono<Test> submit(Test test) {
+        return Mono.create(sink -> {
+            if (!queue.offer(new PendingInsert(test, sink))) {
+                rejectedCounter.increment();
+                sink.error(new WriteBehindRejectedException(properties.getQueueCapacity()));
+            }
+        });
+    }
+
+    private void drainLoop() {
+        int batchSize = properties.getBatchSize();
+        long flushIntervalNanos = properties.getFlushInterval().toNanos();
+        List<PendingInsert> batch = new ArrayList<>(batchSize);
+        // 종료 요청 후에도 큐에 남은 요청은 모두 반영
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingInsert first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingInsert next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingInsert> batch) {
+        try {
+            // autocommit 이면 실패한 바인딩 앞의 행이 이미 반영되어 한 행씩 재시도할 때 중복되므로 트랜잭션으로 묶음
+            // (id 개수 검증도 트랜잭션 안에서 하여 불일치 시 롤백)
+            List<Long> ids = transactionalOperator.transactional(
+                            testRepository.batchInsert(batch.stream().map(PendingInsert::test).toList())
+                                    .collectList()
+                                    .doOnNext(generated -> {
+                                        if (generated.size() != batch.size()) {
+                                            throw new IllegalStateException("Expected " + batch.size()
+                                                    + " generated ids but got " + generated.size());
+                                        }
+                                    }))
+                    .timeout(properties.getFlushTimeout())
+                    .block();
+            batchSizeSummary.record(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                complete(batch.get(i), ids.get(i));
+            }
+            log.debug("Flushed write-behind batch of {} tests", batch.size());
+        } catch (RuntimeException e) {
+            if (Exceptions.unwrap(e) instanceof TimeoutException) {
+                log.error("Write-behind batch of {} tests timed out after {}, outcome unknown",
+                        batch.size(), properties.getFlushTimeout());
+                batch.forEach(pending -> pending.sink().error(Exceptions.unwrap(e)));
+                return;
+            }
+            if (batch.size() == 1) {
+                log.error("Write-behind insert failed: {}", e.getMessage());
+                batch.get(0).sink().error(e);
+                return;
+            }
+            log.warn("Write-behind batch of {} tests failed, retrying one by one: {}", batch.size(), e.getMessage());
+            batch.forEach(this::flushOne);
+        }
+    }
+
+    private void flushOne(PendingInsert pending) {
+        try {
+            Long id = testRepository.batchInsert(List.of(pending.test())).next()
+                    .timeout(properties.getFlushTimeout())
+                    .block();
+            if (id == null) {
+                throw new IllegalStateException("Expected a generated id but got none");
+            }
+            complete(pending, id);
+        } catch (RuntimeException e) {
+            log.error("Write-behind insert failed: {}", e.getMessage());
+            pending.sink().error(Exceptions.unwrap(e));
+        }
+    }
+
+    private static void complete(PendingInsert pending, Long id) {
+        pending.test().setId(id);
+        pending.test().setVersion(0L);
+        pending.sink().success(pending.test());
+    }
+
+    private record PendingInsert(Test test, MonoSink<Test> sink) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.interplug.testservice.service;
+
+/**
+ * write-behind 큐가 가득 차서 생성 요청을 받을 수 없음
+ */
+public class WriteBehindRejectedException extends RuntimeException {
+
+    public WriteBehindRejectedException(int capacity) {
+        super("Write-behind queue is full (capacity: " + capacity + ")");
+    }
+}
@@ -7,6 +7,9 @@ CREATE TABLE tests (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     name VARCHAR(100) NOT NULL,
     description VARCHAR(500),
+    user_id BIGINT,
     created_at TIMESTAMP NOT NULL,
-    updated_at TIMESTAMP NOT NULL
+    updated_at TIMESTAMP NOT NULL,
+    -- 낙관적 잠금 버전 (수정마다 1 증가)
+    version BIGINT DEFAULT 0 NOT NULL
 );
\ No newline at end of file
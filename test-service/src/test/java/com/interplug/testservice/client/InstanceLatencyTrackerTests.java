@@ -0,0 +1,119 @@
+package com.interplug.testservice.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InstanceLatencyTrackerTests {
+
+    private static final ServiceInstance INSTANCE = instance("host-1", 8081);
+
+    @Test
+    void cancelledCallReleasesInFlightSlot() {
+        InstanceLatencyTracker tracker = tracker(Duration.ofSeconds(10));
+
+        Disposable call = tracker.filter(request(INSTANCE), request -> Mono.never()).subscribe();
+        assertThat(tracker.inFlight(INSTANCE)).isEqualTo(1);
+
+        call.dispose();
+        assertThat(tracker.inFlight(INSTANCE)).isZero();
+    }
+
+    @Test
+    void timedOutCallReleasesInFlightSlotAndRaisesCost() {
+        InstanceLatencyTracker tracker = tracker(Duration.ofSeconds(10));
+
+        assertThatThrownBy(() -> tracker.filter(request(INSTANCE), request -> Mono.never())
+                .timeout(Duration.ofMillis(50))
+                .block())
+                .hasCauseInstanceOf(TimeoutException.class);
+
+        assertThat(tracker.inFlight(INSTANCE)).isZero();
+        // 취소 시점까지의 경과 시간이 응답 시간 하한으로 기록됨
+        assertThat(tracker.cost(INSTANCE)).isGreaterThanOrEqualTo(Duration.ofMillis(40).toNanos());
+    }
+
+    @Test
+    void failedCallCountsAtLeastFailurePenalty() {
+        InstanceLatencyTracker tracker = tracker(Duration.ofSeconds(10));
+
+        tracker.filter(request(INSTANCE), request -> Mono.error(new IllegalStateException("refused")))
+                .onErrorResume(e -> Mono.empty())
+                .block();
+
+        assertThat(tracker.inFlight(INSTANCE)).isZero();
+        assertThat(tracker.cost(INSTANCE)).isGreaterThan(Duration.ofMillis(2_900).toNanos());
+    }
+
+    @Test
+    void slowResponseRaisesCostImmediatelyAndDecaysWhileIdle() throws InterruptedException {
+        InstanceLatencyTracker tracker = tracker(Duration.ofMillis(100));
+        ServiceInstance fast = instance("host-2", 8081);
+
+        respond(tracker, INSTANCE, Duration.ofMillis(100));
+        respond(tracker, fast, Duration.ZERO);
+        double slowCost = tracker.cost(INSTANCE);
+        assertThat(slowCost).isGreaterThan(tracker.cost(fast));
+        assertThat(tracker.cost(instance("host-3", 8081))).isZero();
+
+        Thread.sleep(500);
+        assertThat(tracker.cost(INSTANCE)).isLessThan(slowCost / 10);
+    }
+
+    @Test
+    void inFlightRequestsMultiplyCost() {
+        // 감쇠가 무시될 만큼 길게 두어 처리 중 요청 수에 의한 배율만 확인
+        InstanceLatencyTracker tracker = tracker(Duration.ofDays(1));
+        respond(tracker, INSTANCE, Duration.ofMillis(20));
+        double idleCost = tracker.cost(INSTANCE);
+
+        Disposable first = tracker.filter(request(INSTANCE), request -> Mono.never()).subscribe();
+        Disposable second = tracker.filter(request(INSTANCE), request -> Mono.never()).subscribe();
+
+        assertThat(tracker.cost(INSTANCE)).isGreaterThan(idleCost * 2.9);
+        first.dispose();
+        second.dispose();
+    }
+
+    private static void respond(InstanceLatencyTracker tracker, ServiceInstance instance, Duration delay) {
+        tracker.filter(request(instance), request -> respondAfter(delay))
+                .block();
+    }
+
+    /**
+     * 호출 스레드에서 지연 후 응답: block() 이 반환되기 전에 doFinally 까지 끝나도록 동기 실행
+     */
+    static Mono<ClientResponse> respondAfter(Duration delay) {
+        return Mono.fromCallable(() -> {
+            Thread.sleep(delay.toMillis());
+            return ClientResponse.create(HttpStatus.OK).build();
+        });
+    }
+
+    private static InstanceLatencyTracker tracker(Duration decay) {
+        return new InstanceLatencyTracker(decay, Duration.ofSeconds(3), new SimpleMeterRegistry());
+    }
+
+    private static ClientRequest request(ServiceInstance instance) {
+        return ClientRequest.create(HttpMethod.GET,
+                URI.create("http://" + instance.getHost() + ":" + instance.getPort() + "/api/users/1")).build();
+    }
+
+    static ServiceInstance instance(String host, int port) {
+        return new DefaultServiceInstance(host + ":" + port, "user-service", host, port, false);
+    }
+}
@@ -0,0 +1,84 @@
+package com.interplug.testservice.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.ClientRequest;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.interplug.testservice.client.InstanceLatencyTrackerTests.instance;
+import static com.interplug.testservice.client.InstanceLatencyTrackerTests.respondAfter;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyAwareLoadBalancerTests {
+
+    private final InstanceLatencyTracker tracker =
+            new InstanceLatencyTracker(Duration.ofMinutes(1), Duration.ofSeconds(3), new SimpleMeterRegistry());
+
+    @Test
+    void slowestOfThreeInstancesIsNeverChosen() {
+        ServiceInstance slow = instance("slow", 8081);
+        ServiceInstance fast1 = instance("fast-1", 8081);
+        ServiceInstance fast2 = instance("fast-2", 8081);
+        respond(slow, Duration.ofMillis(50));
+        respond(fast1, Duration.ZERO);
+        respond(fast2, Duration.ZERO);
+
+        Map<String, Integer> chosen = choose(loadBalancer(slow, fast1, fast2), 300);
+
+        // 두 후보 중 비용이 낮은 쪽을 고르므로 가장 느린 인스턴스는 어떤 쌍에서도 선택되지 않음
+        assertThat(chosen).doesNotContainKey("slow:8081");
+        assertThat(chosen).containsKeys("fast-1:8081", "fast-2:8081");
+    }
+
+    @Test
+    void unmeasuredInstanceIsTriedBeforeMeasuredOne() {
+        ServiceInstance measured = instance("measured", 8081);
+        ServiceInstance fresh = instance("fresh", 8081);
+        respond(measured, Duration.ZERO);
+
+        assertThat(choose(loadBalancer(measured, fresh), 50)).containsOnlyKeys("fresh:8081");
+    }
+
+    @Test
+    void singleInstanceIsAlwaysChosenAndNoInstancesYieldsEmptyResponse() {
+        ServiceInstance only = instance("only", 8081);
+        assertThat(choose(loadBalancer(only), 10)).containsOnlyKeys("only:8081");
+
+        Response<ServiceInstance> response = loadBalancer().choose(new DefaultRequest<>()).block();
+        assertThat(response.hasServer()).isFalse();
+    }
+
+    private LatencyAwareLoadBalancer loadBalancer(ServiceInstance... instances) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(
+                Map.of("supplier", ServiceInstanceListSuppliers.from("user-service", instances)));
+        return new LatencyAwareLoadBalancer(beanFactory.getBeanProvider(ServiceInstanceListSupplier.class),
+                "user-service", tracker);
+    }
+
+    private static Map<String, Integer> choose(LatencyAwareLoadBalancer loadBalancer, int times) {
+        Map<String, Integer> chosen = new HashMap<>();
+        for (int i = 0; i < times; i++) {
+            ServiceInstance instance = loadBalancer.choose(new DefaultRequest<>()).block().getServer();
+            chosen.merge(instance.getHost() + ":" + instance.getPort(), 1, Integer::sum);
+        }
+        return chosen;
+    }
+
+    private void respond(ServiceInstance instance, Duration delay) {
+        ClientRequest request = ClientRequest.create(HttpMethod.GET,
+                URI.create("http://" + instance.getHost() + ":" + instance.getPort() + "/api/users/1")).build();
+        tracker.filter(request, r -> respondAfter(delay))
+                .block();
+    }
+}
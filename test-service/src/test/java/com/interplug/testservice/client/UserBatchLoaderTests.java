@@ -0,0 +1,110 @@
+package com.interplug.testservice.client;
+
+import com.interplug.testservice.config.UserBatchProperties;
+import com.interplug.testservice.dto.UserDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserBatchLoaderTests {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final List<List<Long>> bulkCalls = new CopyOnWriteArrayList<>();
+    private final List<Long> singleCalls = new CopyOnWriteArrayList<>();
+
+    @Test
+    void duplicateIdsAreSentOnceAndAllCallersReceiveTheUser() {
+        UserBatchLoader loader = loader(properties(Duration.ofMillis(50), 100), this::bulkFetch);
+
+        List<UserDto> users = Flux.merge(loader.load(1L), loader.load(2L), loader.load(1L))
+                .collectList()
+                .block(TIMEOUT);
+
+        assertThat(users).extracting(UserDto::getId).containsExactlyInAnyOrder(1L, 1L, 2L);
+        assertThat(bulkCalls).containsExactly(List.of(1L, 2L));
+        assertThat(singleCalls).isEmpty();
+    }
+
+    @Test
+    void reachingMaxBatchSizeFlushesBeforeTheWindow() {
+        UserBatchLoader loader = loader(properties(Duration.ofMinutes(1), 3), this::bulkFetch);
+
+        List<UserDto> users = Flux.merge(loader.load(1L), loader.load(2L), loader.load(3L))
+                .collectList()
+                .block(TIMEOUT);
+
+        assertThat(users).hasSize(3);
+        assertThat(bulkCalls).containsExactly(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    void idMissingFromBulkResponseResolvesEmpty() {
+        UserBatchLoader loader = loader(properties(Duration.ofMillis(50), 100),
+                ids -> bulkFetch(ids.stream().filter(id -> id != 404L).toList()));
+
+        List<String> results = Flux.merge(
+                        loader.load(1L).map(user -> "user " + user.getId()).defaultIfEmpty("empty 1"),
+                        loader.load(404L).map(user -> "user " + user.getId()).defaultIfEmpty("empty 404"))
+                .collectList()
+                .block(TIMEOUT);
+
+        assertThat(results).containsExactlyInAnyOrder("user 1", "empty 404");
+    }
+
+    @Test
+    void unsupportedBulkEndpointFallsBackToSingleLookups() {
+        AtomicInteger bulkAttempts = new AtomicInteger();
+        UserBatchLoader loader = loader(properties(Duration.ofMillis(50), 100), ids -> {
+            bulkAttempts.incrementAndGet();
+            return Mono.error(WebClientResponseException.create(HttpStatus.NOT_FOUND.value(), "Not Found",
+                    null, null, null));
+        });
+
+        List<UserDto> first = Flux.merge(loader.load(1L), loader.load(2L)).collectList().block(TIMEOUT);
+        List<UserDto> second = Flux.merge(loader.load(3L), loader.load(4L)).collectList().block(TIMEOUT);
+
+        assertThat(first).extracting(UserDto::getId).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(second).extracting(UserDto::getId).containsExactlyInAnyOrder(3L, 4L);
+        // 미지원 응답 이후에는 unsupportedRetryAfter 동안 일괄 조회를 다시 시도하지 않음
+        assertThat(bulkAttempts).hasValue(1);
+        assertThat(singleCalls).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+    }
+
+    private UserBatchLoader loader(UserBatchProperties properties,
+                                   Function<List<Long>, Mono<List<UserDto>>> bulkFetch) {
+        return new UserBatchLoader(properties, bulkFetch, this::singleFetch, new SimpleMeterRegistry());
+    }
+
+    private static UserBatchProperties properties(Duration window, int maxBatchSize) {
+        UserBatchProperties properties = new UserBatchProperties();
+        properties.setWindow(window);
+        properties.setMaxBatchSize(maxBatchSize);
+        return properties;
+    }
+
+    private Mono<List<UserDto>> bulkFetch(List<Long> ids) {
+        bulkCalls.add(List.copyOf(ids));
+        return Mono.just(ids.stream().map(UserBatchLoaderTests::user).toList());
+    }
+
+    private Mono<UserDto> singleFetch(Long id) {
+        singleCalls.add(id);
+        return Mono.just(user(id));
+    }
+
+    private static UserDto user(Long id) {
+        return UserDto.builder().id(id).build();
+    }
+}
@@ -0,0 +1,130 @@
+package com.interplug.testservice.event;
+
+import com.interplug.testservice.config.ChangeFeedProperties;
+import com.interplug.testservice.dto.TestChangeDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TestChangeFeedTests {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void reconnectReplaysOnlyEventsAfterLastEventId() {
+        TestChangeFeed feed = feed(100, 100, ChangeFeedProperties.Overflow.LATEST);
+        List<TestChangeDto> live = publish(feed, 3);
+
+        List<TestChangeDto> replayed = feed.changes(live.get(0).getEventId())
+                .take(2)
+                .collectList()
+                .block(Duration.ofSeconds(1));
+
+        assertThat(replayed).extracting(TestChangeDto::getTestId).containsExactly(2L, 3L);
+        assertThat(replayed).extracting(TestChangeDto::getEventId)
+                .containsExactly(live.get(1).getEventId(), live.get(2).getEventId());
+    }
+
+    @Test
+    void eventIdFromPreviousBootGetsReset() throws InterruptedException {
+        TestChangeFeed previous = feed(100, 100, ChangeFeedProperties.Overflow.LATEST);
+        String previousBootId = publish(previous, 1).get(0).getEventId();
+        Thread.sleep(5);
+
+        // 재시작 후 순번이 다시 1부터 시작해 같은 순번까지 발행되어도 이어서 보내지 않음
+        TestChangeFeed restarted = feed(100, 100, ChangeFeedProperties.Overflow.LATEST);
+        List<TestChangeDto> live = publish(restarted, 3);
+
+        TestChangeDto first = restarted.changes(previousBootId).blockFirst(Duration.ofSeconds(1));
+        assertThat(first.getType()).isEqualTo(TestChangeDto.Type.RESET);
+        assertThat(first.getEventId()).isEqualTo(live.get(2).getEventId());
+        // 이전 형식(순번만)의 id 도 RESET
+        assertThat(restarted.changes("1").blockFirst(Duration.ofSeconds(1)).getType())
+                .isEqualTo(TestChangeDto.Type.RESET);
+    }
+
+    @Test
+    void eventIdOutsideRetainedRangeGetsReset() {
+        TestChangeFeed feed = feed(2, 100, ChangeFeedProperties.Overflow.LATEST);
+        List<TestChangeDto> live = publish(feed, 5);
+        String epoch = live.get(0).getEventId().substring(0, live.get(0).getEventId().indexOf('-'));
+
+        // 보관 범위(4, 5)보다 오래된 id
+        assertThat(feed.changes(live.get(0).getEventId()).blockFirst(Duration.ofSeconds(1)).getType())
+                .isEqualTo(TestChangeDto.Type.RESET);
+        // 아직 발행하지 않은 순번
+        assertThat(feed.changes(epoch + "-99").blockFirst(Duration.ofSeconds(1)).getType())
+                .isEqualTo(TestChangeDto.Type.RESET);
+        // 보관 범위 바로 앞이면 이어서 전송
+        assertThat(feed.changes(live.get(2).getEventId()).blockFirst(Duration.ofSeconds(1)).getTestId())
+                .isEqualTo(4L);
+    }
+
+    @Test
+    void dropOverflowKeepsOldestBufferedEvents() {
+        TestChangeFeed feed = feed(100, 2, ChangeFeedProperties.Overflow.DROP);
+
+        assertThat(slowSubscriberReceives(feed, 5)).containsExactly(1L, 2L);
+        assertThat(meterRegistry.get("test.change-feed.dropped").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void latestOverflowKeepsNewestEvents() {
+        TestChangeFeed feed = feed(100, 2, ChangeFeedProperties.Overflow.LATEST);
+
+        assertThat(slowSubscriberReceives(feed, 5)).containsExactly(4L, 5L);
+        assertThat(meterRegistry.get("test.change-feed.dropped").counter().count()).isEqualTo(3);
+    }
+
+    /**
+     * 요청 없이 구독한 채로 count 개 발행한 뒤 한꺼번에 요청했을 때 받은 Test ID
+     */
+    private static List<Long> slowSubscriberReceives(TestChangeFeed feed, int count) {
+        List<Long> received = new ArrayList<>();
+        BaseSubscriber<TestChangeDto> slow = new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+            }
+
+            @Override
+            protected void hookOnNext(TestChangeDto change) {
+                received.add(change.getTestId());
+            }
+        };
+        feed.changes(null).subscribe(slow);
+        for (long id = 1; id <= count; id++) {
+            feed.onTestChanged(TestChangedEvent.deleted(id));
+        }
+        slow.request(count);
+        slow.dispose();
+        return received;
+    }
+
+    /**
+     * Test ID 1..count 삭제 이벤트를 발행하고 실시간 구독으로 받은 이벤트 반환
+     */
+    private static List<TestChangeDto> publish(TestChangeFeed feed, int count) {
+        List<TestChangeDto> live = new ArrayList<>();
+        feed.changes(null).take(count).subscribe(live::add);
+        for (long id = 1; id <= count; id++) {
+            feed.onTestChanged(TestChangedEvent.deleted(id));
+        }
+        return live;
+    }
+
+    private TestChangeFeed feed(int replaySize, int bufferSize, ChangeFeedProperties.Overflow overflow) {
+        ChangeFeedProperties properties = new ChangeFeedProperties();
+        properties.setReplaySize(replaySize);
+        properties.setBufferSize(bufferSize);
+        properties.setOverflow(overflow);
+        return new TestChangeFeed(properties, meterRegistry);
+    }
+}
@@ -0,0 +1,86 @@
+package com.interplug.testservice.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TestSearchIndexTests {
+
+    @Test
+    void matchesSubstringsInNameAndDescriptionRankedByField() {
+        TestSearchIndex index = new TestSearchIndex(3);
+        index.put(1, "Gateway Routing", "라우팅 설정");
+        index.put(2, "Eureka Discovery", "gateway 와 연동되는 서비스 찾기");
+        index.put(3, "R2DBC Test", "반응형 DB");
+
+        assertThat(index.search("GATEWAY", 10)).extracting(TestSearchIndex.Hit::id).containsExactly(1L, 2L);
+        assertThat(index.search("라우팅", 10)).extracting(TestSearchIndex.Hit::id).containsExactly(1L);
+    }
+
+    @Test
+    void requiresAllTermsAndHandlesTermsShorterThanGram() {
+        TestSearchIndex index = new TestSearchIndex(3);
+        index.put(1, "WebFlux Reactive Test", "db");
+        index.put(2, "WebFlux Blocking", "db");
+
+        assertThat(index.search("webflux reactive", 10)).extracting(TestSearchIndex.Hit::id).containsExactly(1L);
+        assertThat(index.search("db", 10)).extracting(TestSearchIndex.Hit::id).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void termsAreLowercasedSplitOnWhitespaceAndDeduplicated() {
+        assertThat(TestSearchIndex.terms("  WebFlux  webflux\tR2DBC ")).containsExactly("webflux", "r2dbc");
+        assertThat(TestSearchIndex.terms("   ")).isEmpty();
+    }
+
+    @Test
+    void updateAndRemoveAreReflected() {
+        TestSearchIndex index = new TestSearchIndex(3);
+        index.put(1, "alpha", null);
+        index.put(1, "beta", null);
+        index.put(2, "alphabet", null);
+        index.remove(2);
+
+        assertThat(index.search("alpha", 10)).isEmpty();
+        assertThat(index.search("beta", 10)).extracting(TestSearchIndex.Hit::id).containsExactly(1L);
+        assertThat(index.putIfAbsent(1, "gamma", null)).isFalse();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void compactionKeepsLiveDocuments() {
+        TestSearchIndex index = new TestSearchIndex(3);
+        for (long id = 0; id < 5_000; id++) {
+            index.put(id, "doc " + id, null);
+        }
+        for (long id = 0; id < 4_000; id++) {
+            index.remove(id);
+        }
+
+        assertThat(index.size()).isEqualTo(1_000);
+        assertThat(index.search("doc 4999", 10)).extracting(TestSearchIndex.Hit::id).containsExactly(4999L);
+        assertThat(index.search("doc 3999", 10)).isEmpty();
+    }
+
+    @Test
+    void limitKeepsHighestScores() {
+        TestSearchIndex index = new TestSearchIndex(3);
+        index.put(1, "other", "circuit");
+        index.put(2, "circuit breaker", null);
+        index.put(3, "open circuit", null);
+
+        assertThat(index.search("circuit", 2)).extracting(TestSearchIndex.Hit::id).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void clearRemovesAllDocuments() {
+        TestSearchIndex index = new TestSearchIndex(3);
+        index.put(1, "gateway", null);
+        index.clear();
+
+        assertThat(index.size()).isZero();
+        assertThat(index.search("gateway", 10)).isEmpty();
+        assertThat(index.putIfAbsent(1, "eureka", null)).isTrue();
+        assertThat(index.search("eureka", 10)).extracting(TestSearchIndex.Hit::id).containsExactly(1L);
+    }
+}